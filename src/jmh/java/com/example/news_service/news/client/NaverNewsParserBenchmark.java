@@ -0,0 +1,108 @@
+package com.example.news_service.news.client;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.domain.NewsStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 네이버 검색 응답(display=100) 파싱 비교: JsonNode 트리 + 정규식(기존) vs 스트리밍 파서
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NaverNewsParserBenchmark {
+
+	@Param({"100"})
+	private int display;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private NaverNewsParser streamingParser;
+	private String responseBody;
+
+	@Setup
+	public void setUp() {
+		streamingParser = new NaverNewsParser(objectMapper);
+		responseBody = sampleResponse(display);
+	}
+
+	@Benchmark
+	public List<News> treeWithRegex() throws Exception {
+		return parseWithTree(responseBody, NewsCategory.POLITICS);
+	}
+
+	@Benchmark
+	public List<News> streaming() {
+		return streamingParser.parse(responseBody, NewsCategory.POLITICS);
+	}
+
+	/**
+	 * 스트리밍 파서로 바꾸기 전의 파싱 방식
+	 */
+	private List<News> parseWithTree(String body, NewsCategory category) throws Exception {
+		List<News> newsList = new ArrayList<>();
+		JsonNode itemsNode = objectMapper.readTree(body).get("items");
+		for (JsonNode itemNode : itemsNode) {
+			String title = itemNode.get("title").asText().replaceAll("<[^>]*>", "");
+			String description = itemNode.get("description").asText().replaceAll("<[^>]*>", "");
+			String link = itemNode.get("link").asText();
+			String originallink = itemNode.has("originallink") ? itemNode.get("originallink").asText() : link;
+			String source = title.contains("|") ? title.split("\\|")[0].trim() : "네이버뉴스";
+			title = title.replaceAll("<[^>]*>", "").trim();
+			description = description.replaceAll("<[^>]*>", "").trim();
+			newsList.add(News.builder()
+				.title(title)
+				.originalUrl(originallink)
+				.source(source)
+				.category(category)
+				.status(NewsStatus.ACTIVE)
+				.publishedAt(LocalDateTime.parse(itemNode.get("pubDate").asText(), DateTimeFormatter.RFC_1123_DATE_TIME))
+				.build());
+		}
+		return newsList;
+	}
+
+	private String sampleResponse(int count) {
+		LocalDateTime now = LocalDateTime.of(2025, 6, 25, 15, 0);
+		StringBuilder body = new StringBuilder()
+			.append("{\"lastBuildDate\":\"Wed, 25 Jun 2025 15:00:00 +0900\",\"total\":123456,\"start\":1,\"display\":")
+			.append(count)
+			.append(",\"items\":[");
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				body.append(',');
+			}
+			String pubDate = now.minusMinutes(i).atOffset(ZoneOffset.ofHours(9)).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+			body.append("{\"title\":\"연합뉴스 | <b>정치</b> 개혁 &quot;속도&quot; 기사 ").append(i).append("\",")
+				.append("\"originallink\":\"https://news.example.com/article/").append(i).append("\",")
+				.append("\"link\":\"https://n.news.naver.com/mnews/article/001/").append(i).append("\",")
+				.append("\"description\":\"<b>정치</b> 개혁 논의가 이어지는 가운데 여야는 &lt;특별법&gt; 처리를 두고 ")
+				.append("이견을 보였다. 관련 법안은 이번 주 본회의에 상정될 예정이다.\",")
+				.append("\"pubDate\":\"").append(pubDate).append("\"}");
+		}
+		return body.append("]}").toString();
+	}
+}
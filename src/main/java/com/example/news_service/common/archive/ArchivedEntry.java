@@ -0,0 +1,18 @@
+package com.example.news_service.common.archive;
+
+/**
+ * 보관소 색인 항목. key 가 가리키는 내용이 어느 세그먼트의 어느 위치에 있는지 나타냅니다.
+ * source 는 원본 위치(예: 기사 URL), baseUri 는 원본 안의 상대 경로를 해석할 기준 위치(예: 리다이렉트 후 최종 URL),
+ * contentType 은 원본 Content-Type 헤더입니다. 이전 형식의 색인 항목은 baseUri 가 null 입니다.
+ */
+public record ArchivedEntry(
+	byte[] key,
+	byte[] contentHash,
+	int segment,
+	long offset,
+	long storedAtMillis,
+	String source,
+	String baseUri,
+	String contentType
+) {
+}
@@ -0,0 +1,460 @@
+package com.example.news_service.common.archive;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 압축된 콘텐츠 주소 기반 추가 전용(append-only) 세그먼트 저장소.
+ * 내용은 SHA-256 콘텐츠 해시로 한 번만 세그먼트 파일에 덧붙이고, key(32바이트, 예: URL 해시) → 위치 색인은 index.log 에 덧붙입니다.
+ * 읽기는 세그먼트 파일을 메모리 매핑해 페이지 캐시에서 바로 압축을 풉니다.
+ *
+ * <pre>
+ * segment-NNNNNN.dat : [magic][콘텐츠 해시 32][원본 길이][압축 길이][CRC32][압축 데이터] ...
+ * index.log          : [magic][key 32][콘텐츠 해시 32][세그먼트][오프셋][저장 시각][출처][기준 URI][Content-Type][CRC32] ...
+ * </pre>
+ *
+ * 기준 URI 가 없는 이전 형식(magic NSI1)의 색인 레코드도 읽습니다.
+ * 쓰기는 한 스레드씩, 읽기는 동시에 할 수 있습니다. 비정상 종료로 끝이 잘린 색인 레코드와 그 뒤에 덧붙은 세그먼트 데이터는 다시 열 때 잘라냅니다.
+ */
+@Slf4j
+public class SegmentArchive implements Closeable {
+
+	public static final int KEY_LENGTH = 32;
+
+	private static final int BLOB_MAGIC = 0x4E534231;
+	private static final int LEGACY_INDEX_MAGIC = 0x4E534931;
+	private static final int INDEX_MAGIC = 0x4E534932;
+	private static final int BLOB_HEADER_LENGTH = 4 + KEY_LENGTH + 4 + 4 + 4;
+	private static final String INDEX_FILE = "index.log";
+	private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{6})\\.dat");
+
+	private final Path directory;
+	private final long maxSegmentBytes;
+	private final Deflater deflater;
+	private final Map<Digest, ArchivedEntry> entries = new ConcurrentHashMap<>();
+	private final Map<Digest, BlobLocation> blobs = new ConcurrentHashMap<>();
+	private final Map<Integer, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+
+	private final FileChannel indexChannel;
+	private FileChannel activeChannel;
+	private int activeSegment;
+	private volatile long activeSize;
+
+	/**
+	 * 저장소를 열고 색인을 메모리로 읽어 들입니다. 디렉터리가 없으면 만듭니다.
+	 * 세그먼트 하나는 메모리 매핑 한도(2GB)를 넘을 수 없습니다.
+	 */
+	public SegmentArchive(Path directory, long maxSegmentBytes, int compressionLevel) throws IOException {
+		if (maxSegmentBytes <= BLOB_HEADER_LENGTH || maxSegmentBytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("세그먼트 크기는 2GB 이하여야 합니다: " + maxSegmentBytes);
+		}
+		this.directory = Files.createDirectories(directory);
+		this.maxSegmentBytes = maxSegmentBytes;
+		this.deflater = new Deflater(compressionLevel);
+		this.activeSegment = lastSegmentNumber();
+		this.indexChannel = FileChannel.open(directory.resolve(INDEX_FILE),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		recover();
+		this.activeChannel = openSegment(activeSegment);
+		log.info("HTML 보관소 열림: {} (항목 {}, 콘텐츠 {}, 세그먼트 {})", directory, entries.size(), blobs.size(), activeSegment);
+	}
+
+	/**
+	 * key 로 content 를 보관합니다. 같은 내용이 이미 있으면 데이터는 다시 쓰지 않고 색인만 추가합니다.
+	 * 새 데이터를 세그먼트에 덧붙였으면 true 를 반환합니다.
+	 */
+	public synchronized boolean put(byte[] key, byte[] content, String source, String baseUri, String contentType,
+		long storedAtMillis) throws IOException {
+		if (key.length != KEY_LENGTH) {
+			throw new IllegalArgumentException("key 는 " + KEY_LENGTH + "바이트여야 합니다: " + key.length);
+		}
+		byte[] contentHash = sha256(content);
+		Digest contentDigest = Digest.of(contentHash);
+
+		BlobLocation blob = blobs.get(contentDigest);
+		boolean appended = blob == null;
+		if (appended) {
+			blob = appendBlob(contentHash, content);
+			blobs.put(contentDigest, blob);
+		}
+
+		ArchivedEntry entry = new ArchivedEntry(key.clone(), contentHash, blob.segment(), blob.offset(),
+			storedAtMillis, source, baseUri, contentType);
+		appendIndex(entry);
+		entries.put(Digest.of(key), entry);
+		return appended;
+	}
+
+	public Optional<ArchivedEntry> find(byte[] key) {
+		return Optional.ofNullable(entries.get(Digest.of(key)));
+	}
+
+	public boolean contains(byte[] key) {
+		return entries.containsKey(Digest.of(key));
+	}
+
+	/**
+	 * 보관한 원본 바이트를 메모리 매핑한 세그먼트에서 읽어 압축을 풉니다. CRC 가 맞지 않으면 IOException 을 던집니다.
+	 */
+	public byte[] read(ArchivedEntry entry) throws IOException {
+		ByteBuffer segment = mapped(entry.segment(), entry.offset() + BLOB_HEADER_LENGTH);
+		ByteBuffer header = segment.slice(Math.toIntExact(entry.offset()), BLOB_HEADER_LENGTH);
+		if (header.getInt() != BLOB_MAGIC) {
+			throw new IOException("세그먼트 레코드가 손상되었습니다: " + entry.segment() + "@" + entry.offset());
+		}
+		header.position(header.position() + KEY_LENGTH);
+		int rawLength = header.getInt();
+		int compressedLength = header.getInt();
+		int crc = header.getInt();
+
+		int dataOffset = Math.toIntExact(entry.offset() + BLOB_HEADER_LENGTH);
+		ByteBuffer compressed = mapped(entry.segment(), (long) dataOffset + compressedLength)
+			.slice(dataOffset, compressedLength);
+		CRC32 checksum = new CRC32();
+		checksum.update(compressed.duplicate());
+		if ((int) checksum.getValue() != crc) {
+			throw new IOException("세그먼트 데이터 CRC 가 맞지 않습니다: " + entry.segment() + "@" + entry.offset());
+		}
+		return inflate(compressed, rawLength);
+	}
+
+	/**
+	 * 모든 항목을 세그먼트/오프셋 순서로 반환합니다. 이 순서로 읽으면 디스크를 순차적으로 읽게 됩니다.
+	 */
+	public List<ArchivedEntry> entries() {
+		List<ArchivedEntry> sorted = new ArrayList<>(entries.values());
+		sorted.sort(Comparator.comparingInt(ArchivedEntry::segment).thenComparingLong(ArchivedEntry::offset));
+		return sorted;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public int blobCount() {
+		return blobs.size();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		deflater.end();
+		mappedSegments.clear();
+		try (FileChannel index = indexChannel; FileChannel active = activeChannel) {
+			index.force(false);
+			active.force(false);
+		}
+	}
+
+	private BlobLocation appendBlob(byte[] contentHash, byte[] content) throws IOException {
+		byte[] compressed = deflate(content);
+		CRC32 checksum = new CRC32();
+		checksum.update(compressed);
+
+		int recordLength = BLOB_HEADER_LENGTH + compressed.length;
+		if (activeSize > 0 && activeSize + recordLength > maxSegmentBytes) {
+			rollSegment();
+		}
+
+		ByteBuffer record = ByteBuffer.allocate(recordLength)
+			.putInt(BLOB_MAGIC)
+			.put(contentHash)
+			.putInt(content.length)
+			.putInt(compressed.length)
+			.putInt((int) checksum.getValue())
+			.put(compressed)
+			.flip();
+		long offset = activeSize;
+		writeFully(activeChannel, record, offset);
+		activeSize = offset + recordLength;
+		return new BlobLocation(activeSegment, offset);
+	}
+
+	private void appendIndex(ArchivedEntry entry) throws IOException {
+		byte[] source = bytes(entry.source());
+		byte[] baseUri = bytes(entry.baseUri());
+		byte[] contentType = bytes(entry.contentType());
+		ByteBuffer record = ByteBuffer.allocate(4 + KEY_LENGTH * 2 + 4 + 8 + 8
+				+ 2 + source.length + 2 + baseUri.length + 2 + contentType.length + 4)
+			.putInt(INDEX_MAGIC)
+			.put(entry.key())
+			.put(entry.contentHash())
+			.putInt(entry.segment())
+			.putLong(entry.offset())
+			.putLong(entry.storedAtMillis())
+			.putShort((short) source.length)
+			.put(source)
+			.putShort((short) baseUri.length)
+			.put(baseUri)
+			.putShort((short) contentType.length)
+			.put(contentType);
+		CRC32 checksum = new CRC32();
+		checksum.update(record.array(), 0, record.position());
+		record.putInt((int) checksum.getValue()).flip();
+		writeFully(indexChannel, record, indexChannel.size());
+	}
+
+	private void rollSegment() throws IOException {
+		activeChannel.force(false);
+		activeChannel.close();
+		activeSegment++;
+		activeChannel = openSegment(activeSegment);
+		activeSize = 0;
+		log.info("HTML 보관소 새 세그먼트 시작: {}", segmentPath(activeSegment).getFileName());
+	}
+
+	/**
+	 * index.log 를 처음부터 읽어 색인을 복원합니다. 끝이 잘렸거나 가리키는 데이터가 없는 레코드부터는 잘라냅니다.
+	 */
+	private void recover() throws IOException {
+		long validIndexLength = 0;
+		Map<Integer, Long> segmentEnds = new ConcurrentHashMap<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+			Files.newInputStream(directory.resolve(INDEX_FILE)), 1 << 16))) {
+			long[] recordLength = new long[1];
+			while (true) {
+				ArchivedEntry entry = readIndexRecord(in, recordLength);
+				if (entry == null) {
+					break;
+				}
+				long blobEnd = blobEnd(entry);
+				if (blobEnd < 0) {
+					break;
+				}
+				validIndexLength += recordLength[0];
+				entries.put(Digest.of(entry.key()), entry);
+				blobs.put(Digest.of(entry.contentHash()), new BlobLocation(entry.segment(), entry.offset()));
+				segmentEnds.merge(entry.segment(), blobEnd, Math::max);
+			}
+		}
+
+		if (indexChannel.size() > validIndexLength) {
+			log.warn("HTML 보관소 색인 끝의 손상된 레코드를 잘라냅니다: {} -> {} bytes", indexChannel.size(), validIndexLength);
+			indexChannel.truncate(validIndexLength);
+		}
+		activeSize = segmentEnds.getOrDefault(activeSegment, 0L);
+		mappedSegments.clear();
+	}
+
+	/**
+	 * 색인 레코드 하나를 읽고 그 길이를 recordLength[0] 에 담습니다. 끝까지 다 읽지 못했거나 CRC 가 맞지 않으면 null 을 반환합니다.
+	 */
+	private ArchivedEntry readIndexRecord(DataInputStream in, long[] recordLength) throws IOException {
+		try {
+			CRC32 checksum = new CRC32();
+			byte[] fixed = new byte[4 + KEY_LENGTH * 2 + 4 + 8 + 8];
+			in.readFully(fixed);
+			checksum.update(fixed);
+			ByteBuffer buffer = ByteBuffer.wrap(fixed);
+			int magic = buffer.getInt();
+			if (magic != INDEX_MAGIC && magic != LEGACY_INDEX_MAGIC) {
+				return null;
+			}
+			byte[] key = new byte[KEY_LENGTH];
+			byte[] contentHash = new byte[KEY_LENGTH];
+			buffer.get(key).get(contentHash);
+			int segment = buffer.getInt();
+			long offset = buffer.getLong();
+			long storedAt = buffer.getLong();
+			byte[] source = readString(in, checksum);
+			byte[] baseUri = magic == INDEX_MAGIC ? readString(in, checksum) : null;
+			byte[] contentType = readString(in, checksum);
+			if (in.readInt() != (int) checksum.getValue()) {
+				return null;
+			}
+			recordLength[0] = fixed.length + 2 + source.length + 2 + contentType.length + 4
+				+ (baseUri == null ? 0 : 2 + baseUri.length);
+			return new ArchivedEntry(key, contentHash, segment, offset, storedAt, string(source),
+				baseUri == null ? null : string(baseUri), string(contentType));
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+	private byte[] readString(DataInputStream in, CRC32 checksum) throws IOException {
+		byte[] length = new byte[2];
+		in.readFully(length);
+		checksum.update(length);
+		byte[] value = new byte[ByteBuffer.wrap(length).getShort() & 0xFFFF];
+		in.readFully(value);
+		checksum.update(value);
+		return value;
+	}
+
+	/**
+	 * 항목이 가리키는 세그먼트 레코드의 끝 위치. 레코드가 온전히 없으면 -1 을 반환합니다.
+	 */
+	private long blobEnd(ArchivedEntry entry) throws IOException {
+		Path path = segmentPath(entry.segment());
+		if (!Files.exists(path) || Files.size(path) < entry.offset() + BLOB_HEADER_LENGTH) {
+			return -1;
+		}
+		ByteBuffer header = mapped(entry.segment(), entry.offset() + BLOB_HEADER_LENGTH)
+			.slice(Math.toIntExact(entry.offset()), BLOB_HEADER_LENGTH);
+		if (header.getInt() != BLOB_MAGIC) {
+			return -1;
+		}
+		byte[] contentHash = new byte[KEY_LENGTH];
+		header.get(contentHash);
+		if (!Arrays.equals(contentHash, entry.contentHash())) {
+			return -1;
+		}
+		header.getInt();
+		long end = entry.offset() + BLOB_HEADER_LENGTH + header.getInt();
+		return end <= Files.size(path) ? end : -1;
+	}
+
+	/**
+	 * 세그먼트를 읽기 전용으로 메모리 매핑합니다. 매핑한 뒤에 덧붙은 영역을 읽어야 하면 다시 매핑합니다.
+	 */
+	private ByteBuffer mapped(int segment, long requiredLength) throws IOException {
+		MappedByteBuffer buffer = mappedSegments.get(segment);
+		if (buffer != null && buffer.capacity() >= requiredLength) {
+			return buffer;
+		}
+		try {
+			return mappedSegments.compute(segment, (s, current) -> {
+				if (current != null && current.capacity() >= requiredLength) {
+					return current;
+				}
+				try (FileChannel channel = FileChannel.open(segmentPath(s), StandardOpenOption.READ)) {
+					return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private byte[] deflate(byte[] content) {
+		deflater.reset();
+		deflater.setInput(content);
+		deflater.finish();
+		byte[] buffer = new byte[Math.max(64, content.length / 4)];
+		int length = 0;
+		while (!deflater.finished()) {
+			if (length == buffer.length) {
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			}
+			length += deflater.deflate(buffer, length, buffer.length - length);
+		}
+		return Arrays.copyOf(buffer, length);
+	}
+
+	private byte[] inflate(ByteBuffer compressed, int rawLength) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] raw = new byte[rawLength];
+			int length = 0;
+			while (length < rawLength && !inflater.finished()) {
+				int inflated = inflater.inflate(raw, length, rawLength - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += inflated;
+			}
+			if (length != rawLength) {
+				throw new IOException("압축 해제 길이가 맞지 않습니다: " + length + " != " + rawLength);
+			}
+			return raw;
+		} catch (DataFormatException e) {
+			throw new IOException("압축 데이터가 손상되었습니다.", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private FileChannel openSegment(int segment) throws IOException {
+		FileChannel channel = FileChannel.open(segmentPath(segment),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if (channel.size() > activeSize) {
+			channel.truncate(activeSize); // 색인에 없는 끝부분(쓰다 만 레코드)은 버림
+		}
+		return channel;
+	}
+
+	private int lastSegmentNumber() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(path -> SEGMENT_FILE.matcher(path.getFileName().toString()))
+				.filter(Matcher::matches)
+				.mapToInt(matcher -> Integer.parseInt(matcher.group(1)))
+				.max()
+				.orElse(1);
+		}
+	}
+
+	private Path segmentPath(int segment) {
+		return directory.resolve(String.format("segment-%06d.dat", segment));
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	private static byte[] bytes(String value) {
+		if (value == null) {
+			return new byte[0];
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		return bytes.length > 0xFFFF ? Arrays.copyOf(bytes, 0xFFFF) : bytes;
+	}
+
+	private static String string(byte[] bytes) {
+		return bytes.length == 0 ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] sha256(byte[] content) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	private record BlobLocation(int segment, long offset) {
+	}
+
+	/**
+	 * 32바이트 해시를 HashMap 키로 쓰기 위한 값 객체
+	 */
+	private record Digest(long a, long b, long c, long d) {
+
+		static Digest of(byte[] hash) {
+			ByteBuffer buffer = ByteBuffer.wrap(hash);
+			return new Digest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.news_service.common.jpa;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 긴 문자열을 deflate 로 압축해 Base64 로 저장합니다.
+ * 컬럼 타입(TEXT)은 그대로 두고 압축한 값에만 접두어를 붙이므로, 압축 전에 저장된 평문 행도 그대로 읽힙니다.
+ * 짧거나 압축해도 줄지 않는 값은 평문으로 저장합니다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+	static final String PREFIX = "~z1~";
+	private static final int MIN_COMPRESS_LENGTH = 256;
+
+	@Override
+	public String convertToDatabaseColumn(String attribute) {
+		if (attribute == null || attribute.length() < MIN_COMPRESS_LENGTH) {
+			return attribute;
+		}
+		byte[] raw = attribute.getBytes(StandardCharsets.UTF_8);
+		String compressed = PREFIX + Base64.getEncoder().encodeToString(deflate(raw));
+		return compressed.length() < raw.length ? compressed : attribute;
+	}
+
+	@Override
+	public String convertToEntityAttribute(String dbData) {
+		if (dbData == null || !dbData.startsWith(PREFIX)) {
+			return dbData;
+		}
+		byte[] compressed = Base64.getDecoder().decode(dbData.substring(PREFIX.length()));
+		try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException("압축된 컬럼 값을 풀 수 없습니다.", e);
+		}
+	}
+
+	private static byte[] deflate(byte[] raw) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+		try (DeflaterOutputStream stream = new DeflaterOutputStream(out, deflater)) {
+			stream.write(raw);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deflater.end();
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.news_service.common.jpa;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.util.TimeOrderedIds;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작할 때 news.node-id 설정(NEWS_NODE_ID 환경 변수 포함)을 시간순 ID 공용 인스턴스에 넘기고 확인합니다.
+ * 노드 ID를 지정하지 않은 인스턴스는 모두 노드 0 으로 ID를 만들어 같은 초에 같은 ID를 발급할 수 있으므로,
+ * 여러 인스턴스로 운영하는 설정(news.multi-instance 또는 크롤링 대기열 사용)이면 시작하지 않고, 아니면 경고를 남깁니다.
+ */
+@Slf4j
+@Component
+public class NodeIdCheck {
+
+	public NodeIdCheck(@Value("${news.node-id:}") String nodeId,
+		@Value("${news.multi-instance:false}") boolean multiInstance,
+		@Value("${news.crawl.frontier.enabled:false}") boolean frontierEnabled) {
+		if (!nodeId.isBlank()) {
+			TimeOrderedIds.configureShared(Long.parseLong(nodeId.trim()));
+		}
+		if (TimeOrderedIds.shared().isNodeConfigured()) {
+			return;
+		}
+		if (multiInstance || frontierEnabled) {
+			throw new IllegalStateException("여러 인스턴스로 실행하려면 news.node-id(NEWS_NODE_ID)에 인스턴스마다 다른 0~"
+				+ TimeOrderedIds.MAX_NODE + " 값을 지정해야 합니다.");
+		}
+		log.warn("news.node-id(NEWS_NODE_ID)가 지정되지 않아 노드 ID 0 으로 ID를 발급합니다. "
+			+ "인스턴스를 둘 이상 띄우면 ID가 충돌하므로 인스턴스마다 다른 값을 지정하세요.");
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.news_service.common.jpa;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * INSERT 전에 애플리케이션에서 시간순 ID를 채웁니다. IDENTITY 와 달리 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있습니다.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
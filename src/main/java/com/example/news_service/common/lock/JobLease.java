@@ -0,0 +1,8 @@
+package com.example.news_service.common.lock;
+
+/**
+ * 획득한 잠금. fencingToken 이 더 큰 임대가 생기면 이 임대는 더 이상 유효하지 않습니다.
+ * fencingToken 은 임대 연장/해제에서만 확인합니다(JobLockService).
+ */
+public record JobLease(String name, String owner, long fencingToken, long acquiredAtNanos) {
+}
@@ -0,0 +1,38 @@
+package com.example.news_service.common.lock;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 인스턴스 중 하나만 작업을 실행하도록 하는 DB 잠금 한 건.
+ * fencingToken 은 잠금을 새로 얻을 때마다 1씩 증가합니다.
+ */
+@Entity
+@Table(name = "job_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock {
+
+	@Id
+	@Column(length = 64)
+	private String name;
+
+	@Column(length = 128)
+	private String owner;
+
+	@Column(name = "fencing_token", nullable = false)
+	private long fencingToken;
+
+	@Column(name = "locked_at", columnDefinition = "DATETIME(6)")
+	private LocalDateTime lockedAt;
+
+	@Column(name = "locked_until", columnDefinition = "DATETIME(6)", nullable = false)
+	private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,57 @@
+package com.example.news_service.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 잠금 만료 판단은 노드 간 시계 차이를 피하려고 DB 시각(NOW(6))을 기준으로 합니다.
+ */
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO job_lock (name, fencing_token, locked_until)
+		VALUES (:name, 0, TIMESTAMP('1970-01-01 00:00:01'))
+		""", nativeQuery = true)
+	int insertIfAbsent(@Param("name") String name);
+
+	/**
+	 * 잠금이 비어 있거나 만료되었을 때만 owner 가 잠금을 가져가고 fencing token 을 올립니다.
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE job_lock
+		SET owner = :owner, fencing_token = fencing_token + 1, locked_at = NOW(6),
+		    locked_until = DATE_ADD(NOW(6), INTERVAL :leaseMillis * 1000 MICROSECOND)
+		WHERE name = :name AND locked_until <= NOW(6)
+		""", nativeQuery = true)
+	int acquire(@Param("name") String name, @Param("owner") String owner, @Param("leaseMillis") long leaseMillis);
+
+	/**
+	 * 아직 잠금을 가지고 있으면 만료 시각을 늘립니다.
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE job_lock
+		SET locked_until = DATE_ADD(NOW(6), INTERVAL :leaseMillis * 1000 MICROSECOND)
+		WHERE name = :name AND owner = :owner AND fencing_token = :token AND locked_until > NOW(6)
+		""", nativeQuery = true)
+	int extend(@Param("name") String name, @Param("owner") String owner, @Param("token") long token,
+		@Param("leaseMillis") long leaseMillis);
+
+	/**
+	 * 잠금을 풉니다. 잠금을 얻은 뒤 minHoldMillis 가 지나지 않았으면 그때까지는 다른 노드가 가져가지 못합니다.
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE job_lock
+		SET owner = NULL, locked_until = GREATEST(NOW(6), DATE_ADD(locked_at, INTERVAL :minHoldMillis * 1000 MICROSECOND))
+		WHERE name = :name AND owner = :owner AND fencing_token = :token
+		""", nativeQuery = true)
+	int release(@Param("name") String name, @Param("owner") String owner, @Param("token") long token,
+		@Param("minHoldMillis") long minHoldMillis);
+}
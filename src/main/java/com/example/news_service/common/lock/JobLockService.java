@@ -0,0 +1,99 @@
+package com.example.news_service.common.lock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.news_service.common.util.NodeIdentity;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 테이블 기반 분산 잠금. 잠금은 임대 시간이 지나면 저절로 풀리므로 잠금을 가진 노드가 죽어도 다음 실행이 막히지 않습니다.
+ * 오래 걸리는 작업은 extend() 로 임대를 늘리며, extend() 가 false 를 반환하면 다른 노드가 잠금을 가져간 것이므로 중단해야 합니다.
+ * fencing token 은 extend()/release() 만 확인합니다. 작업이 하는 쓰기는 확인하지 않으므로,
+ * 잠금을 잃은 노드는 다음 extend() 까지 하던 쓰기를 마칠 수 있습니다.
+ */
+@Slf4j
+@Service
+public class JobLockService {
+
+	private static final String METRIC_PREFIX = "scheduler.lock";
+
+	private final JobLockRepository jobLockRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final String owner;
+	private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+
+	public JobLockService(JobLockRepository jobLockRepository,
+		TransactionTemplate transactionTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${news.scheduler.lock.owner:}") String owner) {
+		this.jobLockRepository = jobLockRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.meterRegistry = meterRegistry;
+		this.owner = NodeIdentity.resolve(owner);
+	}
+
+	/**
+	 * 잠금을 얻으면 임대를 반환하고, 다른 노드가 가지고 있으면 기다리지 않고 빈 값을 반환합니다.
+	 */
+	public Optional<JobLease> tryAcquire(String name, Duration leaseDuration) {
+		long startedAt = System.nanoTime();
+		Optional<JobLease> lease = transactionTemplate.execute(status -> {
+			jobLockRepository.insertIfAbsent(name);
+			if (jobLockRepository.acquire(name, owner, leaseDuration.toMillis()) == 0) {
+				return Optional.<JobLease>empty();
+			}
+			long token = jobLockRepository.findById(name).orElseThrow().getFencingToken();
+			return Optional.of(new JobLease(name, owner, token, System.nanoTime()));
+		});
+
+		Timer.builder(METRIC_PREFIX + ".acquire")
+			.tag("lock", name)
+			.tag("result", lease.isPresent() ? "acquired" : "busy")
+			.register(meterRegistry)
+			.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+		lease.ifPresentOrElse(
+			acquired -> log.info("잠금 획득: {} (owner={}, token={})", name, owner, acquired.fencingToken()),
+			() -> log.info("다른 노드가 잠금을 가지고 있어 건너뜁니다: {}", name));
+		return lease;
+	}
+
+	/**
+	 * 아직 잠금을 가지고 있으면 임대를 늘리고 true 를 반환합니다.
+	 */
+	public boolean extend(JobLease lease, Duration leaseDuration) {
+		Integer updated = transactionTemplate.execute(status ->
+			jobLockRepository.extend(lease.name(), lease.owner(), lease.fencingToken(), leaseDuration.toMillis()));
+		if (updated == null || updated == 0) {
+			log.warn("잠금을 잃었습니다: {} (token={})", lease.name(), lease.fencingToken());
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 잠금을 풉니다. 작업이 빨리 끝나도 잠금을 얻은 뒤 minHold 동안은 잡아 두어,
+	 * 스케줄이 조금 늦게 시작한 다른 노드가 같은 회차를 다시 실행하지 않게 합니다.
+	 */
+	public void release(JobLease lease, Duration minHold) {
+		transactionTemplate.executeWithoutResult(status ->
+			jobLockRepository.release(lease.name(), lease.owner(), lease.fencingToken(), minHold.toMillis()));
+		holdTimers.computeIfAbsent(lease.name(), name -> Timer.builder(METRIC_PREFIX + ".held")
+				.tag("lock", name)
+				.register(meterRegistry))
+			.record(System.nanoTime() - lease.acquiredAtNanos(), TimeUnit.NANOSECONDS);
+		log.info("잠금 해제: {} (token={})", lease.name(), lease.fencingToken());
+	}
+}
@@ -0,0 +1,197 @@
+package com.example.news_service.common.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크기가 제한된 입력 큐와 전용 워커를 가진 파이프라인 단계.
+ * 입력이 끝나면 complete() 를 호출하고, 모든 워커가 끝나면 다음 단계에 종료를 전파합니다.
+ * 한 번의 실행에만 사용합니다.
+ */
+@Slf4j
+public class PipelineStage<I, O> {
+
+	private static final Object END = new Object();
+
+	private final String name;
+	private final int workers;
+	private final StageHandler<I, O> handler;
+	private final StageStats stats;
+	private final BlockingQueue<Object> queue;
+	private final AtomicInteger remainingWorkers;
+	private final CountDownLatch finished;
+	private final LongAdder succeeded = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder busyNanos = new LongAdder();
+
+	private PipelineStage<O, ?> next;
+
+	public PipelineStage(String name, int workers, int queueCapacity, StageHandler<I, O> handler, StageStats stats) {
+		if (workers < 1) {
+			throw new IllegalArgumentException("워커 수는 1 이상이어야 합니다: " + name);
+		}
+		this.name = name;
+		this.workers = workers;
+		this.handler = handler;
+		this.stats = stats;
+		this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, workers));
+		this.remainingWorkers = new AtomicInteger(workers);
+		this.finished = new CountDownLatch(workers);
+	}
+
+	/**
+	 * 다음 단계를 연결하고, 연결한 단계를 반환합니다.
+	 */
+	public <R> PipelineStage<O, R> then(PipelineStage<O, R> next) {
+		this.next = next;
+		return next;
+	}
+
+	/**
+	 * 이 단계와 연결된 모든 단계의 워커를 시작합니다.
+	 */
+	public void start(Executor executor) {
+		for (int i = 0; i < workers; i++) {
+			executor.execute(this::work);
+		}
+		if (next != null) {
+			next.start(executor);
+		}
+	}
+
+	public void submit(I item) throws InterruptedException {
+		queue.put(item);
+		stats.queueDepth(queue.size());
+	}
+
+	/**
+	 * 더 이상 입력이 없음을 알립니다.
+	 */
+	public void complete() throws InterruptedException {
+		for (int i = 0; i < workers; i++) {
+			queue.put(END);
+		}
+	}
+
+	/**
+	 * 남은 입력을 버리고 워커와 이후 단계를 종료시킵니다.
+	 */
+	public void abort() {
+		queue.clear();
+		stats.queueDepth(0);
+		for (int i = 0; i < workers; i++) {
+			queue.offer(END);
+		}
+	}
+
+	/**
+	 * 이 단계와 이후 모든 단계가 끝날 때까지 대기합니다.
+	 */
+	public void awaitTermination() throws InterruptedException {
+		finished.await();
+		if (next != null) {
+			next.awaitTermination();
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getSucceededCount() {
+		return succeeded.sum();
+	}
+
+	public long getFailedCount() {
+		return failed.sum();
+	}
+
+	public long getBusyMillis() {
+		return busyNanos.sum() / 1_000_000;
+	}
+
+	public PipelineStage<O, ?> getNext() {
+		return next;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void work() {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				Object item = queue.take();
+				stats.queueDepth(queue.size());
+				if (item == END) {
+					finish();
+					break;
+				}
+				process((I) item);
+			}
+		} catch (InterruptedException e) {
+			interrupted = true;
+			Thread.currentThread().interrupt();
+		} finally {
+			if (remainingWorkers.decrementAndGet() == 0 && next != null) {
+				completeNext(interrupted);
+			}
+			finished.countDown();
+		}
+	}
+
+	private void process(I item) throws InterruptedException {
+		stats.started();
+		long startedAt = System.nanoTime();
+		try {
+			handler.handle(item, this::emit);
+			long elapsed = System.nanoTime() - startedAt;
+			busyNanos.add(elapsed);
+			succeeded.increment();
+			stats.succeeded(elapsed);
+		} catch (InterruptedException e) {
+			stats.failed(System.nanoTime() - startedAt);
+			throw e;
+		} catch (Exception e) {
+			long elapsed = System.nanoTime() - startedAt;
+			busyNanos.add(elapsed);
+			failed.increment();
+			stats.failed(elapsed);
+			log.error("[{}] 파이프라인 단계 처리 중 오류 발생: {}", name, e.getMessage(), e);
+		}
+	}
+
+	private void finish() throws InterruptedException {
+		try {
+			handler.finish(this::emit);
+		} catch (InterruptedException e) {
+			throw e;
+		} catch (Exception e) {
+			failed.increment();
+			log.error("[{}] 파이프라인 단계 마무리 중 오류 발생: {}", name, e.getMessage(), e);
+		}
+	}
+
+	private void emit(O item) throws InterruptedException {
+		if (next != null) {
+			next.submit(item);
+		}
+	}
+
+	private void completeNext(boolean interrupted) {
+		if (interrupted) {
+			next.abort();
+			return;
+		}
+		try {
+			next.complete();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			next.abort();
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.news_service.common.pipeline;
+
+/**
+ * 파이프라인 단계의 처리 로직. 입력 하나에 대해 0개 이상의 결과를 다음 단계로 내보냅니다.
+ */
+@FunctionalInterface
+public interface StageHandler<I, O> {
+
+	void handle(I item, Emitter<O> emitter) throws Exception;
+
+	/**
+	 * 입력이 모두 끝났을 때 워커마다 한 번 호출됩니다. 모아 둔 결과가 있으면 여기서 내보냅니다.
+	 */
+	default void finish(Emitter<O> emitter) throws Exception {
+	}
+
+	/**
+	 * 다음 단계 큐로 결과를 전달합니다. 큐가 가득 차 있으면 자리가 날 때까지 대기합니다(backpressure).
+	 */
+	@FunctionalInterface
+	interface Emitter<O> {
+		void emit(O item) throws InterruptedException;
+	}
+}
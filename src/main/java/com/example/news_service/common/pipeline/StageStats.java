@@ -0,0 +1,68 @@
+package com.example.news_service.common.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 파이프라인 단계별 지표. 실행마다 새 단계가 만들어져도 같은 지표를 이어서 사용합니다.
+ * <ul>
+ *   <li>{prefix}.queue.depth - 단계 입력 큐에 쌓인 항목 수</li>
+ *   <li>{prefix}.workers.busy - 처리 중인 워커 수</li>
+ *   <li>{prefix}.items - 처리한 항목 수 (result=success|failure), 단위 시간당 증가량이 처리량</li>
+ *   <li>{prefix}.latency - 항목당 처리 시간</li>
+ * </ul>
+ */
+public class StageStats {
+
+	private final AtomicInteger queueDepth = new AtomicInteger();
+	private final AtomicInteger busyWorkers = new AtomicInteger();
+	private final Counter succeeded;
+	private final Counter failed;
+	private final Timer latency;
+
+	public StageStats(String prefix, String stage, MeterRegistry meterRegistry) {
+		Gauge.builder(prefix + ".queue.depth", queueDepth, AtomicInteger::get)
+			.tag("stage", stage)
+			.register(meterRegistry);
+		Gauge.builder(prefix + ".workers.busy", busyWorkers, AtomicInteger::get)
+			.tag("stage", stage)
+			.register(meterRegistry);
+		this.succeeded = Counter.builder(prefix + ".items")
+			.tag("stage", stage)
+			.tag("result", "success")
+			.register(meterRegistry);
+		this.failed = Counter.builder(prefix + ".items")
+			.tag("stage", stage)
+			.tag("result", "failure")
+			.register(meterRegistry);
+		this.latency = Timer.builder(prefix + ".latency")
+			.tag("stage", stage)
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+	}
+
+	void queueDepth(int depth) {
+		queueDepth.set(depth);
+	}
+
+	void started() {
+		busyWorkers.incrementAndGet();
+	}
+
+	void succeeded(long elapsedNanos) {
+		busyWorkers.decrementAndGet();
+		succeeded.increment();
+		latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	void failed(long elapsedNanos) {
+		busyWorkers.decrementAndGet();
+		failed.increment();
+		latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+}
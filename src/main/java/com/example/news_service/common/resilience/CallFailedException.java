@@ -0,0 +1,23 @@
+package com.example.news_service.common.resilience;
+
+/**
+ * 실패 유형을 알고 있는 호출 실패. 보호된 호출 안에서 던지면 그 유형 그대로 CallResult 로 변환됩니다.
+ */
+public class CallFailedException extends RuntimeException {
+
+	private final FailureKind kind;
+
+	public CallFailedException(FailureKind kind, String message) {
+		super(message);
+		this.kind = kind;
+	}
+
+	public CallFailedException(FailureKind kind, String message, Throwable cause) {
+		super(message, cause);
+		this.kind = kind;
+	}
+
+	public FailureKind getKind() {
+		return kind;
+	}
+}
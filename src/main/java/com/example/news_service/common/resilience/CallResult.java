@@ -0,0 +1,89 @@
+package com.example.news_service.common.resilience;
+
+import java.util.function.Function;
+
+/**
+ * 외부 호출 결과. 실패를 null 이나 오류 문구 대신 유형이 있는 값으로 돌려줍니다.
+ */
+public sealed interface CallResult<T> {
+
+	static <T> CallResult<T> success(T value) {
+		return new Success<>(value);
+	}
+
+	static <T> CallResult<T> failure(FailureKind kind, String message) {
+		return new Failure<>(kind, message);
+	}
+
+	boolean isSuccess();
+
+	/**
+	 * 성공 값. 실패면 CallFailedException 을 던집니다.
+	 */
+	T getOrThrow();
+
+	T getOrElse(T fallback);
+
+	<R> CallResult<R> map(Function<? super T, ? extends R> mapper);
+
+	/**
+	 * 성공하면 다음 호출을 이어서 실행하고, 실패하면 실패를 그대로 전달합니다.
+	 */
+	<R> CallResult<R> flatMap(Function<? super T, CallResult<R>> next);
+
+	record Success<T>(T value) implements CallResult<T> {
+
+		@Override
+		public boolean isSuccess() {
+			return true;
+		}
+
+		@Override
+		public T getOrThrow() {
+			return value;
+		}
+
+		@Override
+		public T getOrElse(T fallback) {
+			return value;
+		}
+
+		@Override
+		public <R> CallResult<R> map(Function<? super T, ? extends R> mapper) {
+			return new Success<>(mapper.apply(value));
+		}
+
+		@Override
+		public <R> CallResult<R> flatMap(Function<? super T, CallResult<R>> next) {
+			return next.apply(value);
+		}
+	}
+
+	record Failure<T>(FailureKind kind, String message) implements CallResult<T> {
+
+		@Override
+		public boolean isSuccess() {
+			return false;
+		}
+
+		@Override
+		public T getOrThrow() {
+			throw new CallFailedException(kind, message);
+		}
+
+		@Override
+		public T getOrElse(T fallback) {
+			return fallback;
+		}
+
+		@Override
+		public <R> CallResult<R> map(Function<? super T, ? extends R> mapper) {
+			return new Failure<>(kind, message);
+		}
+
+		@Override
+		public <R> CallResult<R> flatMap(Function<? super T, CallResult<R>> next) {
+			return new Failure<>(kind, message);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.news_service.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * 최근 windowSize 번의 호출 중 실패 비율이 임계치를 넘으면 openDuration 동안 호출을 바로 거절합니다(OPEN).
+ * 그 뒤 시험 호출 한 건을 허용해(HALF_OPEN) 성공하면 닫고, 실패하면 다시 엽니다.
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final long openNanos;
+
+	private final boolean[] outcomes;
+	private int recorded;
+	private int next;
+	private int failures;
+	private State state = State.CLOSED;
+	private long openedAt;
+	private boolean trialInFlight;
+
+	public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+		if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+			throw new IllegalArgumentException("windowSize >= minimumCalls >= 1 이어야 합니다.");
+		}
+		this.windowSize = windowSize;
+		this.minimumCalls = minimumCalls;
+		this.failureRateThreshold = failureRateThreshold;
+		this.openNanos = openDuration.toNanos();
+		this.outcomes = new boolean[windowSize];
+	}
+
+	/**
+	 * 호출해도 되는지 확인합니다. OPEN 이면 false, 열린 시간이 지났으면 시험 호출 한 건만 허용합니다.
+	 */
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.OPEN && nanoTime() - openedAt >= openNanos) {
+			state = State.HALF_OPEN;
+			trialInFlight = false;
+		}
+		if (state == State.HALF_OPEN) {
+			if (trialInFlight) {
+				return false;
+			}
+			trialInFlight = true;
+			return true;
+		}
+		return state == State.CLOSED;
+	}
+
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			close();
+			return;
+		}
+		record(false);
+	}
+
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			open();
+			return;
+		}
+		record(true);
+		if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+			open();
+		}
+	}
+
+	/**
+	 * 장애로 집계하지 않는 결과. 시험 호출이었다면 다음 시험 호출을 허용합니다.
+	 */
+	public synchronized void onIgnored() {
+		if (state == State.HALF_OPEN) {
+			trialInFlight = false;
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	long nanoTime() {
+		return System.nanoTime();
+	}
+
+	private void record(boolean failure) {
+		if (recorded == windowSize && outcomes[next]) {
+			failures--;
+		}
+		outcomes[next] = failure;
+		if (failure) {
+			failures++;
+		}
+		next = (next + 1) % windowSize;
+		recorded = Math.min(recorded + 1, windowSize);
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openedAt = nanoTime();
+		trialInFlight = false;
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		recorded = 0;
+		next = 0;
+		failures = 0;
+		trialInFlight = false;
+	}
+}
@@ -0,0 +1,187 @@
+package com.example.news_service.common.resilience;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 의존 서비스 하나에 대한 호출 보호 장치.
+ * 동시 호출 수를 제한하고(bulkhead), 서킷이 열려 있으면 기다리지 않고 실패하며, 일시적인 실패는 지터 백오프로 재시도합니다.
+ * 서킷 브레이커는 key(예: 언론사 호스트)마다 따로 둘 수 있습니다.
+ */
+@Slf4j
+public class DependencyGuard {
+
+	private static final String METRIC_PREFIX = "resilience";
+
+	private final String name;
+	private final RetryPolicy retryPolicy;
+	private final Semaphore bulkhead;
+	private final Duration bulkheadWait;
+	private final Supplier<CircuitBreaker> circuitBreakerFactory;
+	private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+	private final Map<String, Counter> resultCounters = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+
+	public DependencyGuard(String name, RetryPolicy retryPolicy, int maxConcurrentCalls, Duration bulkheadWait,
+		Supplier<CircuitBreaker> circuitBreakerFactory, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.retryPolicy = retryPolicy;
+		this.bulkhead = new Semaphore(maxConcurrentCalls);
+		this.bulkheadWait = bulkheadWait;
+		this.circuitBreakerFactory = circuitBreakerFactory;
+		this.meterRegistry = meterRegistry;
+		Gauge.builder(METRIC_PREFIX + ".circuit.open", this, DependencyGuard::openCircuits)
+			.tag("dependency", name)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".bulkhead.available", bulkhead, Semaphore::availablePermits)
+			.tag("dependency", name)
+			.register(meterRegistry);
+	}
+
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	public <T> CallResult<T> call(Callable<T> action) {
+		return call(name, action);
+	}
+
+	/**
+	 * key 의 서킷 브레이커로 action 을 보호해 실행합니다. 예외는 던지지 않고 실패 유형으로 돌려줍니다.
+	 */
+	public <T> CallResult<T> call(String key, Callable<T> action) {
+		return call(key, action, retryPolicy.maxAttempts());
+	}
+
+	/**
+	 * 재시도 없이 한 번만 실행합니다. 스트리밍처럼 중간 결과를 이미 내보내서 다시 실행하면 안 되는 호출에 씁니다.
+	 */
+	public <T> CallResult<T> callOnce(Callable<T> action) {
+		return call(name, action, 1);
+	}
+
+	private <T> CallResult<T> call(String key, Callable<T> action, int maxAttempts) {
+		CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(key, k -> circuitBreakerFactory.get());
+		CallResult<T> result = null;
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			if (attempt > 1 && !sleep(retryPolicy.backoffMillis(attempt - 1))) {
+				result = CallResult.failure(FailureKind.INTERRUPTED, "재시도 대기 중 중단되었습니다.");
+				break;
+			}
+			result = attempt(key, circuitBreaker, action);
+			if (!(result instanceof CallResult.Failure<T> failure) || !failure.kind().isRetryable()) {
+				break;
+			}
+			log.debug("[{}] {} 호출 실패 ({}), 재시도 {}/{}", name, key, failure.kind(), attempt, maxAttempts);
+		}
+
+		count(result);
+		if (result instanceof CallResult.Failure<T> failure) {
+			log.warn("[{}] {} 호출 실패: {} - {}", name, key, failure.kind(), failure.message());
+		}
+		return result;
+	}
+
+	private <T> CallResult<T> attempt(String key, CircuitBreaker circuitBreaker, Callable<T> action) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			return CallResult.failure(FailureKind.CIRCUIT_OPEN, key + " 서킷이 열려 있습니다.");
+		}
+		try {
+			if (!bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+				circuitBreaker.onIgnored();
+				return CallResult.failure(FailureKind.BULKHEAD_FULL, name + " 동시 호출 한도를 초과했습니다.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			circuitBreaker.onIgnored();
+			return CallResult.failure(FailureKind.INTERRUPTED, "호출 대기 중 중단되었습니다.");
+		}
+
+		try {
+			T value = action.call();
+			circuitBreaker.onSuccess();
+			return CallResult.success(value);
+		} catch (Exception e) {
+			FailureKind kind = classify(e);
+			if (kind == FailureKind.INTERRUPTED) {
+				Thread.currentThread().interrupt();
+			}
+			if (kind.countsAsFailure()) {
+				circuitBreaker.onFailure();
+			} else {
+				circuitBreaker.onIgnored();
+			}
+			return CallResult.failure(kind, e.getMessage());
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	/**
+	 * 예외와 원인 예외를 따라가며 실패 유형을 판단합니다.
+	 */
+	public static FailureKind classify(Throwable error) {
+		for (Throwable t = error; t != null; t = t.getCause()) {
+			if (t instanceof CallFailedException failed) {
+				return failed.getKind();
+			}
+			if (t instanceof InterruptedException) {
+				return FailureKind.INTERRUPTED;
+			}
+			if (t instanceof SocketTimeoutException || t instanceof HttpTimeoutException || t instanceof TimeoutException) {
+				return FailureKind.TIMEOUT;
+			}
+			if (t instanceof InterruptedIOException) {
+				return Thread.currentThread().isInterrupted() ? FailureKind.INTERRUPTED : FailureKind.TIMEOUT;
+			}
+			if (t instanceof ConnectException) {
+				return FailureKind.CONNECTION;
+			}
+			if (t instanceof IOException && t.getCause() == null) {
+				return FailureKind.CONNECTION;
+			}
+		}
+		return FailureKind.UNKNOWN;
+	}
+
+	private boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void count(CallResult<?> result) {
+		String outcome = result instanceof CallResult.Failure<?> failure ? failure.kind().name().toLowerCase() : "success";
+		resultCounters.computeIfAbsent(outcome, o -> Counter.builder(METRIC_PREFIX + ".calls")
+				.tag("dependency", name)
+				.tag("result", o)
+				.register(meterRegistry))
+			.increment();
+	}
+
+	private double openCircuits() {
+		return circuitBreakers.values().stream()
+			.filter(circuitBreaker -> circuitBreaker.getState() == CircuitBreaker.State.OPEN)
+			.count();
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.news_service.common.resilience;
+
+/**
+ * 외부 호출 실패 유형. retryable 이면 잠시 후 다시 시도해 성공할 수 있는 실패이고,
+ * countsAsFailure 이면 서킷 브레이커가 의존 서비스 장애로 집계하는 실패입니다.
+ */
+public enum FailureKind {
+	TIMEOUT(true, true),
+	CONNECTION(true, true),
+	RATE_LIMITED(true, true),
+	SERVER_ERROR(true, true),
+	QUOTA_EXCEEDED(false, true),
+	CLIENT_ERROR(false, false),
+	EMPTY_RESPONSE(false, false),
+	CIRCUIT_OPEN(false, false),
+	BULKHEAD_FULL(false, false),
+	INTERRUPTED(false, false),
+	UNKNOWN(false, true);
+
+	private final boolean retryable;
+	private final boolean countsAsFailure;
+
+	FailureKind(boolean retryable, boolean countsAsFailure) {
+		this.retryable = retryable;
+		this.countsAsFailure = countsAsFailure;
+	}
+
+	public boolean isRetryable() {
+		return retryable;
+	}
+
+	public boolean countsAsFailure() {
+		return countsAsFailure;
+	}
+
+	/**
+	 * 다시 시도해도 결과가 같은 실패인지 확인합니다. 본문이 없는 기사처럼 요청 자체가 잘못된 경우만 해당합니다.
+	 */
+	public boolean isPermanent() {
+		return this == CLIENT_ERROR || this == EMPTY_RESPONSE;
+	}
+
+	/**
+	 * HTTP 상태 코드로 실패 유형을 판단합니다.
+	 */
+	public static FailureKind ofHttpStatus(int status) {
+		if (status == 429) {
+			return RATE_LIMITED;
+		}
+		if (status == 408) {
+			return TIMEOUT;
+		}
+		return status >= 500 ? SERVER_ERROR : CLIENT_ERROR;
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.news_service.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지수 백오프 + full jitter 재시도 정책. n번째 재시도 전에 0 ~ min(maxBackoff, initialBackoff * 2^(n-1)) 사이에서 무작위로 기다립니다.
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+	public RetryPolicy {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("maxAttempts 는 1 이상이어야 합니다: " + maxAttempts);
+		}
+	}
+
+	/**
+	 * retry 번째 재시도(1부터) 전에 기다릴 시간
+	 */
+	public long backoffMillis(int retry) {
+		long ceiling = initialBackoff.toMillis() << Math.min(retry - 1, 20);
+		long bounded = Math.min(maxBackoff.toMillis(), ceiling);
+		return bounded <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bounded + 1);
+	}
+}
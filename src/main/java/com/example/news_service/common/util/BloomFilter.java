@@ -0,0 +1,121 @@
+package com.example.news_service.common.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 Bloom filter.
+ * 입력은 이미 균일하게 분포된 해시 바이트(16바이트 이상)이며, 앞 16바이트로 double hashing 을 수행합니다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final AtomicLong bitCount = new AtomicLong();
+
+	private BloomFilter(long bitSize, int hashFunctions) {
+		this.bitSize = bitSize;
+		this.hashFunctions = hashFunctions;
+		this.bits = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+	}
+
+	/**
+	 * 예상 원소 수와 목표 오탐률로 최적 크기의 필터를 생성합니다.
+	 */
+	public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("예상 원소 수는 0보다 커야 합니다: " + expectedInsertions);
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+		}
+		long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+		return new BloomFilter(bitSize, hashFunctions);
+	}
+
+	/**
+	 * 원소를 추가합니다. 새로 켜진 비트가 있으면 true 를 반환합니다.
+	 */
+	public boolean put(byte[] hash) {
+		ByteBuffer buffer = ByteBuffer.wrap(hash);
+		long h1 = buffer.getLong();
+		long h2 = buffer.getLong();
+
+		boolean changed = false;
+		long combined = h1;
+		for (int i = 0; i < hashFunctions; i++) {
+			changed |= setBit((combined & Long.MAX_VALUE) % bitSize);
+			combined += h2;
+		}
+		return changed;
+	}
+
+	/**
+	 * false 이면 확실히 없는 원소, true 이면 있을 수도 있는 원소입니다.
+	 */
+	public boolean mightContain(byte[] hash) {
+		ByteBuffer buffer = ByteBuffer.wrap(hash);
+		long h1 = buffer.getLong();
+		long h2 = buffer.getLong();
+
+		long combined = h1;
+		for (int i = 0; i < hashFunctions; i++) {
+			if (!getBit((combined & Long.MAX_VALUE) % bitSize)) {
+				return false;
+			}
+			combined += h2;
+		}
+		return true;
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+
+	public long bitCount() {
+		return bitCount.get();
+	}
+
+	/**
+	 * 켜진 비트 수로 추정한 원소 수
+	 */
+	public long approximateElementCount() {
+		double fractionOfBitsSet = (double) bitCount.get() / bitSize;
+		if (fractionOfBitsSet >= 1) {
+			return Long.MAX_VALUE;
+		}
+		return Math.round(-Math.log1p(-fractionOfBitsSet) * bitSize / hashFunctions);
+	}
+
+	/**
+	 * 현재 비트 점유율 기준의 오탐률
+	 */
+	public double expectedFalsePositiveRate() {
+		return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+	}
+
+	private boolean setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+		bitCount.incrementAndGet();
+		return true;
+	}
+
+	private boolean getBit(long index) {
+		return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+	}
+}
@@ -0,0 +1,29 @@
+package com.example.news_service.common.util;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 여러 인스턴스가 공유 자원을 나눠 쓸 때 이 인스턴스를 구분하는 이름
+ */
+public final class NodeIdentity {
+
+	private NodeIdentity() {
+	}
+
+	/**
+	 * 호스트 이름과 프로세스 ID로 만든 기본 이름. 설정값이 비어 있으면 이 값을 사용합니다.
+	 */
+	public static String resolve(String configured) {
+		if (configured != null && !configured.isBlank()) {
+			return configured.trim();
+		}
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			host = "unknown";
+		}
+		return host + "-" + ProcessHandle.current().pid();
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.news_service.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 64비트 SimHash 지문.
+ * 글자와 숫자만 남긴 텍스트를 4글자 shingle 로 나눠 해시한 뒤 비트별로 투표합니다.
+ * 내용이 거의 같은 글은 지문의 해밍 거리가 작습니다 (같은 통신사 기사를 여러 언론사가 조금씩 고쳐 실은 경우 등).
+ */
+public final class SimHash {
+
+	private static final int SHINGLE_LENGTH = 4;
+
+	private SimHash() {
+	}
+
+	public static long of(String text) {
+		char[] normalized = normalize(text);
+		int[] votes = new int[64];
+		if (normalized.length <= SHINGLE_LENGTH) {
+			vote(votes, hash(normalized, 0, normalized.length));
+		} else {
+			for (int i = 0; i + SHINGLE_LENGTH <= normalized.length; i++) {
+				vote(votes, hash(normalized, i, SHINGLE_LENGTH));
+			}
+		}
+
+		long fingerprint = 0;
+		for (int bit = 0; bit < 64; bit++) {
+			if (votes[bit] > 0) {
+				fingerprint |= 1L << bit;
+			}
+		}
+		return fingerprint;
+	}
+
+	public static int distance(long a, long b) {
+		return Long.bitCount(a ^ b);
+	}
+
+	/**
+	 * 공백, 문장부호를 지우고 소문자로 바꿉니다. 띄어쓰기나 따옴표만 다른 글을 같은 글로 봅니다.
+	 */
+	private static char[] normalize(String text) {
+		char[] normalized = new char[text.length()];
+		int length = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				normalized[length++] = Character.toLowerCase(c);
+			}
+		}
+		return Arrays.copyOf(normalized, length);
+	}
+
+	private static void vote(int[] votes, long hash) {
+		for (int bit = 0; bit < 64; bit++) {
+			votes[bit] += (hash >>> bit & 1L) != 0 ? 1 : -1;
+		}
+	}
+
+	/**
+	 * FNV-1a 64 에 비트 확산(murmur3 fmix64)을 더한 해시
+	 */
+	private static long hash(char[] chars, int from, int length) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = from; i < from + length; i++) {
+			h ^= chars[i];
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
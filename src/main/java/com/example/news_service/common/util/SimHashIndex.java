@@ -0,0 +1,117 @@
+package com.example.news_service.common.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SimHash 지문의 근접 검색 색인 (밴드 방식).
+ * 64비트를 maxDistance + 1 개의 밴드로 나누면, 해밍 거리가 maxDistance 이하인 두 지문은 적어도 한 밴드가 똑같습니다(비둘기집 원리).
+ * 그래서 밴드 값이 같은 후보만 비교하면 되고, 전체를 훑지 않습니다.
+ * 최대 capacity 개까지 보관하며 가장 먼저 넣은 항목부터 버립니다. 스레드 안전합니다.
+ */
+public class SimHashIndex<T> {
+
+	private final int maxDistance;
+	private final int capacity;
+	private final int[] bandShifts;
+	private final int[] bandWidths;
+	private final List<Map<Long, List<Entry<T>>>> bands;
+	private final ArrayDeque<Entry<T>> insertionOrder = new ArrayDeque<>();
+
+	public SimHashIndex(int maxDistance, int capacity) {
+		if (maxDistance < 0 || maxDistance > 31 || capacity < 1) {
+			throw new IllegalArgumentException("SimHash 색인 설정이 올바르지 않습니다: distance=" + maxDistance + ", capacity=" + capacity);
+		}
+		this.maxDistance = maxDistance;
+		this.capacity = capacity;
+
+		int bandCount = maxDistance + 1;
+		this.bandShifts = new int[bandCount];
+		this.bandWidths = new int[bandCount];
+		this.bands = new ArrayList<>(bandCount);
+		int shift = 0;
+		for (int band = 0; band < bandCount; band++) {
+			bandWidths[band] = 64 / bandCount + (band < 64 % bandCount ? 1 : 0);
+			bandShifts[band] = shift;
+			shift += bandWidths[band];
+			bands.add(new HashMap<>());
+		}
+	}
+
+	/**
+	 * 해밍 거리가 maxDistance 이하인 항목 중 가장 가까운 항목을 찾습니다.
+	 */
+	public synchronized Optional<Match<T>> findNearest(long fingerprint) {
+		Match<T> nearest = null;
+		for (int band = 0; band < bands.size(); band++) {
+			List<Entry<T>> candidates = bands.get(band).get(bandValue(fingerprint, band));
+			if (candidates == null) {
+				continue;
+			}
+			for (Entry<T> candidate : candidates) {
+				int distance = SimHash.distance(fingerprint, candidate.fingerprint());
+				if (distance <= maxDistance && (nearest == null || distance < nearest.distance())) {
+					nearest = new Match<>(candidate.value(), distance);
+				}
+			}
+		}
+		return Optional.ofNullable(nearest);
+	}
+
+	public synchronized void put(long fingerprint, T value) {
+		Entry<T> entry = new Entry<>(fingerprint, value);
+		for (int band = 0; band < bands.size(); band++) {
+			bands.get(band).computeIfAbsent(bandValue(fingerprint, band), key -> new ArrayList<>(1)).add(entry);
+		}
+		insertionOrder.addLast(entry);
+		if (insertionOrder.size() > capacity) {
+			evict(insertionOrder.removeFirst());
+		}
+	}
+
+	/**
+	 * 넣어 둔 항목을 뺍니다. 없으면 false 를 돌려줍니다.
+	 */
+	public synchronized boolean remove(long fingerprint, T value) {
+		Entry<T> entry = new Entry<>(fingerprint, value);
+		if (!insertionOrder.remove(entry)) {
+			return false;
+		}
+		evict(entry);
+		return true;
+	}
+
+	public synchronized int size() {
+		return insertionOrder.size();
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	private void evict(Entry<T> entry) {
+		for (int band = 0; band < bands.size(); band++) {
+			Long key = bandValue(entry.fingerprint(), band);
+			List<Entry<T>> entries = bands.get(band).get(key);
+			entries.remove(entry);
+			if (entries.isEmpty()) {
+				bands.get(band).remove(key);
+			}
+		}
+	}
+
+	private long bandValue(long fingerprint, int band) {
+		long mask = bandWidths[band] == 64 ? -1L : (1L << bandWidths[band]) - 1;
+		return fingerprint >>> bandShifts[band] & mask;
+	}
+
+	public record Match<T>(T value, int distance) {
+	}
+
+	private record Entry<T>(long fingerprint, T value) {
+	}
+}
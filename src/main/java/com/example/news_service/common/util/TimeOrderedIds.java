@@ -0,0 +1,98 @@
+package com.example.news_service.common.util;
+
+import java.time.Instant;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 왕복 없이 만드는 시간순 정렬 ID.
+ * [초 단위 시각 32비트][노드 5비트][초 내 순번 16비트] 로 53비트 이내라 JavaScript number 로도 정확히 표현됩니다.
+ * 한 초에 65,536개를 넘기면 다음 초의 번호를 미리 사용하고, 시계가 뒤로 가도 마지막 값 이후로 발급합니다.
+ */
+public class TimeOrderedIds {
+
+	static final long EPOCH_SECOND = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+	static final int NODE_BITS = 5;
+	static final int SEQUENCE_BITS = 16;
+	public static final long MAX_NODE = (1L << NODE_BITS) - 1;
+
+	private static volatile TimeOrderedIds shared = createShared();
+
+	private final long node;
+	private final boolean nodeConfigured;
+	/** (초 << SEQUENCE_BITS) | 순번 */
+	private final AtomicLong state = new AtomicLong();
+
+	TimeOrderedIds(long node) {
+		this(node, true);
+	}
+
+	private TimeOrderedIds(long node, boolean nodeConfigured) {
+		if (node < 0 || node > MAX_NODE) {
+			throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE + " 사이여야 합니다: " + node);
+		}
+		this.node = node;
+		this.nodeConfigured = nodeConfigured;
+	}
+
+	/**
+	 * 애플리케이션 공용 인스턴스. 노드 ID는 시작할 때 NodeIdCheck 가 스프링 설정 news.node-id 로 지정하며,
+	 * 스프링 밖에서는 news.node-id 시스템 속성이나 NEWS_NODE_ID 환경 변수를 읽습니다.
+	 * 여러 인스턴스를 띄울 때는 인스턴스마다 다르게 지정해야 합니다.
+	 * 지정하지 않으면 노드 0 을 사용하므로 인스턴스가 하나일 때만 안전합니다(NodeIdCheck 가 시작 시 확인).
+	 */
+	public static TimeOrderedIds shared() {
+		return shared;
+	}
+
+	/**
+	 * 공용 인스턴스의 노드 ID를 지정합니다. ID를 발급하기 전에만 바꿀 수 있습니다.
+	 */
+	public static synchronized void configureShared(long node) {
+		TimeOrderedIds current = shared;
+		if (current.nodeConfigured && current.node == node) {
+			return;
+		}
+		if (current.state.get() != 0) {
+			throw new IllegalStateException("이미 노드 " + current.node + " 로 ID를 발급해 노드 ID를 바꿀 수 없습니다: " + node);
+		}
+		shared = new TimeOrderedIds(node, true);
+	}
+
+	/**
+	 * 노드 ID를 설정으로 지정했는지 여부
+	 */
+	public boolean isNodeConfigured() {
+		return nodeConfigured;
+	}
+
+	public long next() {
+		long now = currentSecond();
+		while (true) {
+			long previous = state.get();
+			long next = (previous >>> SEQUENCE_BITS) < now ? now << SEQUENCE_BITS : previous + 1;
+			if (state.compareAndSet(previous, next)) {
+				long second = next >>> SEQUENCE_BITS;
+				long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+				return (second << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+			}
+		}
+	}
+
+	long currentSecond() {
+		return Instant.now().getEpochSecond() - EPOCH_SECOND;
+	}
+
+	private static TimeOrderedIds createShared() {
+		OptionalLong configured = configuredNodeId();
+		return new TimeOrderedIds(configured.orElse(0), configured.isPresent());
+	}
+
+	private static OptionalLong configuredNodeId() {
+		String configured = System.getProperty("news.node-id", System.getenv("NEWS_NODE_ID"));
+		if (configured != null && !configured.isBlank()) {
+			return OptionalLong.of(Long.parseLong(configured.trim()));
+		}
+		return OptionalLong.empty();
+	}
+}
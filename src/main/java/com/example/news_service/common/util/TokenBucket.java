@@ -0,0 +1,73 @@
+package com.example.news_service.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 안전한 토큰 버킷.
+ * 초당 permitsPerSecond 개씩 토큰이 채워지고 최대 capacity 개까지 모입니다.
+ * acquire() 는 토큰을 먼저 예약한 뒤 락 밖에서 대기하므로 대기 중에도 다른 스레드가 순서대로 예약할 수 있습니다.
+ */
+public class TokenBucket {
+
+	private final double capacity;
+	private final double permitsPerNano;
+	private double tokens;
+	private long lastRefillNanos;
+
+	public TokenBucket(double permitsPerSecond, double capacity) {
+		if (permitsPerSecond <= 0 || capacity < 1) {
+			throw new IllegalArgumentException("토큰 버킷 설정이 올바르지 않습니다: rate=" + permitsPerSecond + ", capacity=" + capacity);
+		}
+		this.capacity = capacity;
+		this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.tokens = capacity;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * 토큰 하나를 얻을 때까지 대기합니다.
+	 */
+	public void acquire() throws InterruptedException {
+		acquire(1);
+	}
+
+	/**
+	 * permits 개의 토큰을 얻을 때까지 대기합니다. 대기한 시간(나노초)을 반환합니다.
+	 */
+	public long acquire(double permits) throws InterruptedException {
+		long waitNanos = reserve(permits);
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+		return waitNanos;
+	}
+
+	/**
+	 * 대기 없이 토큰을 얻을 수 있으면 얻고 true 를 반환합니다.
+	 */
+	public synchronized boolean tryAcquire(double permits) {
+		refill();
+		if (tokens >= permits) {
+			tokens -= permits;
+			return true;
+		}
+		return false;
+	}
+
+	public synchronized double availablePermits() {
+		refill();
+		return Math.max(0, tokens);
+	}
+
+	private synchronized long reserve(double permits) {
+		refill();
+		tokens -= permits;
+		return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+		lastRefillNanos = now;
+	}
+}
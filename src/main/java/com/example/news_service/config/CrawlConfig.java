@@ -0,0 +1,35 @@
+package com.example.news_service.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CrawlConfig {
+
+	/**
+	 * 기사 단위 크롤링 작업을 실행하는 가상 스레드 Executor
+	 */
+	@Bean(destroyMethod = "close")
+	public ExecutorService crawlExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	/**
+	 * 기사 스크래핑용 공유 HTTP 클라이언트 (HTTP/2 우선, 커넥션 keep-alive 재사용)
+	 */
+	@Bean
+	public HttpClient scraperHttpClient(
+		@Value("${news.scraper.connect-timeout:5s}") Duration connectTimeout) {
+		return HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.connectTimeout(connectTimeout)
+			.build();
+	}
+}
@@ -6,16 +6,33 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
 
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+
 @Configuration
 public class GptConfig {
 
     @Value("${openai.api-key}")
     private String apiKey;
 
+    @Value("${openai.timeout:20s}")
+    private Duration timeout;
+
+    // 부하 테스트 등에서 로컬 대역 서버로 바꿀 수 있음 (끝에 / 필요)
+    @Value("${openai.base-url:https://api.openai.com/}")
+    private String baseUrl;
+
     @Bean
     public OpenAiService openAiService() {
-        return new OpenAiService(apiKey, Duration.ofSeconds(60));
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        OkHttpClient client = OpenAiService.defaultClient(apiKey, timeout);
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, mapper).newBuilder()
+            .baseUrl(baseUrl)
+            .build();
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.example.news_service.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.example.news_service.common.resilience.CircuitBreaker;
+import com.example.news_service.common.resilience.DependencyGuard;
+import com.example.news_service.common.resilience.RetryPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 외부 의존 서비스별 재시도/서킷 브레이커/벌크헤드 설정.
+ * resilience.{naver|scraper|gpt}.* 속성으로 기본값을 바꿀 수 있습니다.
+ */
+@Configuration
+public class ResilienceConfig {
+
+	/**
+	 * 네이버 검색 API
+	 */
+	@Bean
+	public DependencyGuard naverGuard(Environment env, MeterRegistry meterRegistry) {
+		return guard("naver", env, meterRegistry, 3, Duration.ofMillis(500), Duration.ofSeconds(5), 4);
+	}
+
+	/**
+	 * 언론사 기사 페이지. 서킷 브레이커는 호스트마다 따로 둡니다.
+	 */
+	@Bean
+	public DependencyGuard scraperGuard(Environment env, MeterRegistry meterRegistry) {
+		return guard("scraper", env, meterRegistry, 2, Duration.ofMillis(300), Duration.ofSeconds(3), 32);
+	}
+
+	/**
+	 * OpenAI Chat Completions
+	 */
+	@Bean
+	public DependencyGuard gptGuard(Environment env, MeterRegistry meterRegistry) {
+		return guard("gpt", env, meterRegistry, 3, Duration.ofSeconds(1), Duration.ofSeconds(10), 8);
+	}
+
+	private DependencyGuard guard(String name, Environment env, MeterRegistry meterRegistry,
+		int maxAttempts, Duration initialBackoff, Duration maxBackoff, int maxConcurrentCalls) {
+		String prefix = "resilience." + name + ".";
+		RetryPolicy retryPolicy = new RetryPolicy(
+			env.getProperty(prefix + "max-attempts", Integer.class, maxAttempts),
+			env.getProperty(prefix + "initial-backoff", Duration.class, initialBackoff),
+			env.getProperty(prefix + "max-backoff", Duration.class, maxBackoff));
+		int windowSize = env.getProperty(prefix + "window-size", Integer.class, 20);
+		int minimumCalls = env.getProperty(prefix + "minimum-calls", Integer.class, 5);
+		double failureRate = env.getProperty(prefix + "failure-rate-threshold", Double.class, 0.5);
+		Duration openDuration = env.getProperty(prefix + "open-duration", Duration.class, Duration.ofSeconds(30));
+
+		return new DependencyGuard(name, retryPolicy,
+			env.getProperty(prefix + "max-concurrent-calls", Integer.class, maxConcurrentCalls),
+			env.getProperty(prefix + "bulkhead-wait", Duration.class, Duration.ofSeconds(1)),
+			() -> new CircuitBreaker(windowSize, minimumCalls, failureRate, openDuration),
+			meterRegistry);
+	}
+}
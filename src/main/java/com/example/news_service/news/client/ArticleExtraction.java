@@ -0,0 +1,27 @@
+package com.example.news_service.news.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기사 페이지를 한 번 가져와서 추출한 본문/이미지/메타데이터
+ */
+@Getter
+@Builder
+public class ArticleExtraction {
+
+	private final String url;
+	private final String content;
+	private final String imageUrl;
+	private final String canonicalUrl;
+	private final String ogTitle;
+	private final String publishedTime;
+
+	public boolean hasContent() {
+		return content != null && !content.isBlank();
+	}
+
+	public boolean hasImage() {
+		return imageUrl != null && !imageUrl.isBlank();
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.news_service.news.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.news.client.GptRequestScheduler.Priority;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 본문 길이에 맞춰 GPT 요약을 요청합니다.
+ * 본문이 max-input-tokens 이하면 한 번에 요약하고, 넘으면 문장 경계에서 chunk-tokens 크기의 조각으로 나눠
+ * 조각별 요약을 동시에 요청한 뒤(map) 조각 요약들을 이어 붙여 원래 템플릿으로 한 번 더 요약합니다(reduce).
+ * 조각은 max-chunks 개까지만 쓰므로 기사 길이와 관계없이 요청 수는 max-chunks + 1 회, 지연은 GPT 호출 두 번 정도로 묶입니다.
+ */
+@Slf4j
+@Component
+public class ChunkedSummarizer {
+
+	private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?。…])\\s+|\\n+");
+
+	private final GptRequestScheduler gptRequestScheduler;
+	private final int maxInputTokens;
+	private final int chunkTokens;
+	private final int maxChunks;
+	private final DistributionSummary chunkCount;
+
+	public ChunkedSummarizer(GptRequestScheduler gptRequestScheduler,
+		MeterRegistry meterRegistry,
+		@Value("${openai.summary.max-input-tokens:2500}") int maxInputTokens,
+		@Value("${openai.summary.chunk-tokens:1500}") int chunkTokens,
+		@Value("${openai.summary.max-chunks:6}") int maxChunks) {
+		this.gptRequestScheduler = gptRequestScheduler;
+		this.maxInputTokens = maxInputTokens;
+		this.chunkTokens = chunkTokens;
+		this.maxChunks = maxChunks;
+		this.chunkCount = DistributionSummary.builder("news.gpt.summary.chunks")
+			.description("요약 한 건을 만들 때 나눈 본문 조각 수")
+			.register(meterRegistry);
+	}
+
+	public CompletableFuture<CallResult<String>> summarize(PromptTemplate template, String content, Priority priority) {
+		if (TokenEstimator.estimate(content) <= maxInputTokens) {
+			chunkCount.record(1);
+			return gptRequestScheduler.summarize(template, content, priority);
+		}
+
+		List<String> chunks = split(content, chunkTokens);
+		if (chunks.size() > maxChunks) {
+			log.info("본문이 너무 길어 앞의 {}개 조각만 요약합니다: 전체 {}개", maxChunks, chunks.size());
+			chunks = chunks.subList(0, maxChunks);
+		}
+		chunkCount.record(chunks.size());
+
+		List<CompletableFuture<CallResult<String>>> parts = chunks.stream()
+			.map(chunk -> gptRequestScheduler.summarize(PromptTemplate.ARTICLE_PART, chunk, priority))
+			.toList();
+		return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+			.thenCompose(ignored -> reduce(template, parts, priority));
+	}
+
+	private CompletableFuture<CallResult<String>> reduce(PromptTemplate template,
+		List<CompletableFuture<CallResult<String>>> parts, Priority priority) {
+		List<String> partials = new ArrayList<>(parts.size());
+		for (CompletableFuture<CallResult<String>> part : parts) {
+			CallResult<String> result = part.join();
+			if (result instanceof CallResult.Failure<String> failure) {
+				return CompletableFuture.completedFuture(failure);
+			}
+			partials.add(result.getOrThrow());
+		}
+		return gptRequestScheduler.summarize(template, String.join("\n\n", partials), priority);
+	}
+
+	/**
+	 * 본문을 문장 단위로 모아 조각마다 chunkTokens 토큰을 넘지 않게 나눕니다.
+	 * 한 문장이 chunkTokens 보다 길면 글자 수 비율로 잘라 넣습니다.
+	 */
+	static List<String> split(String content, int chunkTokens) {
+		List<String> chunks = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		int currentTokens = 0;
+		for (String sentence : SENTENCE_BOUNDARY.split(content.strip())) {
+			if (sentence.isBlank()) {
+				continue;
+			}
+			int tokens = TokenEstimator.estimate(sentence);
+			if (currentTokens > 0 && currentTokens + tokens > chunkTokens) {
+				chunks.add(current.toString());
+				current.setLength(0);
+				currentTokens = 0;
+			}
+			if (tokens > chunkTokens) {
+				int step = Math.max(1, (int)((long)sentence.length() * chunkTokens / tokens));
+				for (int start = 0; start < sentence.length(); start += step) {
+					chunks.add(sentence.substring(start, Math.min(sentence.length(), start + step)));
+				}
+				continue;
+			}
+			if (!current.isEmpty()) {
+				current.append(' ');
+			}
+			current.append(sentence);
+			currentTokens += tokens;
+		}
+		if (!current.isEmpty()) {
+			chunks.add(current.toString());
+		}
+		return chunks;
+	}
+}
@@ -1,51 +1,144 @@
 package com.example.news_service.news.client;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import com.example.news_service.common.resilience.CallFailedException;
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.DependencyGuard;
+import com.example.news_service.common.resilience.FailureKind;
+import com.example.news_service.common.resilience.RetryPolicy;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
 import com.theokanning.openai.completion.chat.ChatMessage;
 import com.theokanning.openai.completion.chat.ChatMessageRole;
 import com.theokanning.openai.OpenAiHttpException;
 import com.theokanning.openai.service.OpenAiService;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GptApiClient {
 
+    static final String MODEL = "gpt-3.5-turbo";
+    static final int MAX_COMPLETION_TOKENS = 1024;
+
     private final OpenAiService openAiService;
+    private final DependencyGuard gptGuard;
+    private final SummaryCache summaryCache;
 
-    public String summarizeText(String prompt) {
-        try {
-            log.info("GPT 요약 요청 시작...");
-            
-            ChatCompletionRequest request = ChatCompletionRequest.builder()
-                .model("gpt-3.5-turbo")
-                .messages(List.of(new ChatMessage(ChatMessageRole.USER.value(), prompt)))
-                .maxTokens(1024)
-                .temperature(0.7)
-                .build();
-            
-            ChatMessage responseMessage = openAiService.createChatCompletion(request).getChoices().get(0).getMessage();
-            String summary = responseMessage.getContent();
-            
-            log.info("GPT 요약 응답 성공");
+    public GptApiClient(OpenAiService openAiService, @Qualifier("gptGuard") DependencyGuard gptGuard,
+        SummaryCache summaryCache) {
+        this.openAiService = openAiService;
+        this.gptGuard = gptGuard;
+        this.summaryCache = summaryCache;
+    }
+
+    /**
+     * GPT 를 호출하지 않고 캐시에서만 요약을 찾습니다.
+     */
+    public Optional<String> findCached(PromptTemplate template, String content) {
+        return summaryCache.find(SummaryCache.key(MODEL, template, content));
+    }
+
+    /**
+     * 캐시를 보지 않고 GPT 로 요약을 만든 뒤, 성공한 요약만 캐시에 넣습니다.
+     * 한 번만 시도합니다. 재시도는 GptRequestScheduler 가 요청 한도를 다시 차감하고 대기열에 넣어 처리합니다.
+     * 요청 한도를 지키도록 GptRequestScheduler 를 거쳐서만 호출합니다.
+     */
+    CallResult<String> generate(PromptTemplate template, String content) {
+        return gptGuard.callOnce(() -> requestSummary(template.render(content))).map(summary -> {
+            summaryCache.put(SummaryCache.key(MODEL, template, content), MODEL, summary);
             return summary;
-            
+        });
+    }
+
+    /**
+     * GPT 호출의 재시도 정책(resilience.gpt.*)
+     */
+    public RetryPolicy retryPolicy() {
+        return gptGuard.getRetryPolicy();
+    }
+
+    /**
+     * 요약을 스트리밍으로 받으면서 받은 조각을 차례로 onToken 에 넘기고, 끝까지 받은 요약은 캐시에 넣어 돌려줍니다.
+     * 이미 넘긴 조각을 다시 보내지 않도록 실패해도 재시도하지 않습니다. GptRequestScheduler 를 거쳐서만 호출합니다.
+     */
+    CallResult<String> stream(PromptTemplate template, String content, Consumer<String> onToken) {
+        return gptGuard.callOnce(() -> requestStream(template.render(content), onToken)).map(summary -> {
+            summaryCache.put(SummaryCache.key(MODEL, template, content), MODEL, summary);
+            return summary;
+        });
+    }
+
+    private String requestSummary(String prompt) {
+        log.info("GPT 요약 요청 시작...");
+
+        ChatCompletionResult result;
+        try {
+            result = openAiService.createChatCompletion(chatRequest(prompt));
         } catch (OpenAiHttpException e) {
-            log.warn("GPT API 호출 중 HTTP 오류 발생: {}", e.getMessage());
-            if (e.getMessage().contains("quota")) {
-                return "GPT API 사용량을 초과하여 요약을 생성할 수 없습니다. 관리자에게 문의하세요.";
-            }
-            return "GPT API 호출 중 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.";
-        } catch (Exception e) {
-            log.error("GPT API 요약 중 알 수 없는 오류 발생: {}", e.getMessage(), e);
-            return "기사 요약 중 알 수 없는 오류가 발생했습니다.";
+            throw new CallFailedException(classify(e), e.getMessage(), e);
+        }
+
+        if (result.getChoices() == null || result.getChoices().isEmpty()) {
+            throw new CallFailedException(FailureKind.EMPTY_RESPONSE, "GPT 응답에 결과가 없습니다.");
+        }
+        String summary = result.getChoices().get(0).getMessage().getContent();
+        if (summary == null || summary.isBlank()) {
+            throw new CallFailedException(FailureKind.EMPTY_RESPONSE, "GPT 응답 내용이 비어 있습니다.");
+        }
+
+        log.info("GPT 요약 응답 성공");
+        return summary;
+    }
+
+    private String requestStream(String prompt, Consumer<String> onToken) {
+        log.info("GPT 스트리밍 요약 요청 시작...");
+
+        StringBuilder summary = new StringBuilder();
+        try {
+            openAiService.streamChatCompletion(chatRequest(prompt)).blockingForEach(chunk -> {
+                if (chunk.getChoices() == null || chunk.getChoices().isEmpty()) {
+                    return;
+                }
+                String token = chunk.getChoices().get(0).getMessage().getContent();
+                if (token != null && !token.isEmpty()) {
+                    summary.append(token);
+                    onToken.accept(token);
+                }
+            });
+        } catch (OpenAiHttpException e) {
+            throw new CallFailedException(classify(e), e.getMessage(), e);
+        }
+
+        if (summary.toString().isBlank()) {
+            throw new CallFailedException(FailureKind.EMPTY_RESPONSE, "GPT 스트리밍 응답 내용이 비어 있습니다.");
+        }
+
+        log.info("GPT 스트리밍 요약 응답 완료");
+        return summary.toString();
+    }
+
+    private ChatCompletionRequest chatRequest(String prompt) {
+        return ChatCompletionRequest.builder()
+            .model(MODEL)
+            .messages(List.of(new ChatMessage(ChatMessageRole.USER.value(), prompt)))
+            .maxTokens(MAX_COMPLETION_TOKENS)
+            .temperature(0.7)
+            .build();
+    }
+
+    private FailureKind classify(OpenAiHttpException e) {
+        // 429 중 사용량 초과(insufficient_quota)는 재시도해도 소용이 없음
+        if ("insufficient_quota".equals(e.code) || String.valueOf(e.getMessage()).contains("quota")) {
+            return FailureKind.QUOTA_EXCEEDED;
         }
+        return FailureKind.ofHttpStatus(e.statusCode);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,282 @@
+package com.example.news_service.news.client;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.FailureKind;
+import com.example.news_service.common.resilience.RetryPolicy;
+import com.example.news_service.common.util.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 요청을 OpenAI 의 분당 요청 수(RPM)/분당 토큰 수(TPM) 한도 안에서 비동기로 실행합니다.
+ * 요청은 우선순위 큐에 쌓이고, 디스패처 스레드 하나가 두 토큰 버킷에 여유가 생기는 대로 가장 급한 요청부터 꺼내 가상 스레드에서 실행합니다.
+ * 사용자가 기다리는 분석(INTERACTIVE)이 크롤링 요약(BULK)보다 먼저 나가고, 같은 우선순위끼리는 들어온 순서대로 나갑니다.
+ * 토큰 예산은 프롬프트 어림값에 최대 응답 토큰을 더해 잡으며, 429(RATE_LIMITED)로 실패하면 rate-limit-cooldown 동안 새 요청을 내보내지 않습니다.
+ * 요청은 한 번씩만 보내고, 다시 시도할 수 있는 실패는 GPT 재시도 정책의 백오프 뒤 대기열에 다시 넣어 예산을 새로 차감한 뒤 보냅니다.
+ */
+@Slf4j
+@Component
+public class GptRequestScheduler {
+
+	private static final String METRIC_PREFIX = "news.gpt.scheduler";
+	private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+	public enum Priority {
+		INTERACTIVE,
+		BULK
+	}
+
+	private final GptApiClient gptApiClient;
+	private final TokenBucket requestBudget;
+	private final TokenBucket tokenBudget;
+	private final double maxRequestTokens;
+	private final Semaphore concurrency;
+	private final int queueCapacity;
+	private final Duration rateLimitCooldown;
+	private final PriorityBlockingQueue<Request<?>> queue = new PriorityBlockingQueue<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+	private final Counter rejected;
+	private final Counter rateLimited;
+	private final Counter retried;
+	private final MeterRegistry meterRegistry;
+	private volatile long pausedUntilNanos = System.nanoTime();
+	private Thread dispatcher;
+
+	public GptRequestScheduler(GptApiClient gptApiClient,
+		MeterRegistry meterRegistry,
+		@Value("${openai.rate-limit.requests-per-minute:500}") int requestsPerMinute,
+		@Value("${openai.rate-limit.tokens-per-minute:60000}") int tokensPerMinute,
+		@Value("${openai.rate-limit.burst-window:10s}") Duration burstWindow,
+		@Value("${openai.rate-limit.max-concurrency:8}") int maxConcurrency,
+		@Value("${openai.rate-limit.queue-capacity:1000}") int queueCapacity,
+		@Value("${openai.rate-limit.cooldown:10s}") Duration rateLimitCooldown) {
+		this.gptApiClient = gptApiClient;
+		double burstSeconds = burstWindow.toMillis() / 1000.0;
+		this.requestBudget = new TokenBucket(requestsPerMinute / 60.0, Math.max(1, requestsPerMinute / 60.0 * burstSeconds));
+		this.maxRequestTokens = Math.max(1, tokensPerMinute / 60.0 * burstSeconds);
+		this.tokenBudget = new TokenBucket(tokensPerMinute / 60.0, maxRequestTokens);
+		this.concurrency = new Semaphore(maxConcurrency);
+		this.queueCapacity = queueCapacity;
+		this.rateLimitCooldown = rateLimitCooldown;
+		this.meterRegistry = meterRegistry;
+		this.rejected = Counter.builder(METRIC_PREFIX + ".rejected").register(meterRegistry);
+		this.rateLimited = Counter.builder(METRIC_PREFIX + ".rate_limited").register(meterRegistry);
+		this.retried = Counter.builder(METRIC_PREFIX + ".retried").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, PriorityBlockingQueue::size)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".budget.tokens", tokenBudget, TokenBucket::availablePermits)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 템플릿에 본문을 넣어 요약합니다. 캐시에 있으면 한도를 쓰지 않고 바로 완료된 future 를 돌려줍니다.
+	 */
+	public CompletableFuture<CallResult<String>> summarize(PromptTemplate template, String content, Priority priority) {
+		Optional<String> cached = gptApiClient.findCached(template, content);
+		if (cached.isPresent()) {
+			return CompletableFuture.completedFuture(CallResult.success(cached.get()));
+		}
+		return submit(priority, cost(template, content), () -> gptApiClient.generate(template, content));
+	}
+
+	/**
+	 * 템플릿에 본문을 넣은 요약을 스트리밍으로 받아 조각마다 onToken 을 부릅니다.
+	 * 캐시에 있으면 한도를 쓰지 않고 캐시된 요약 전체를 한 번에 넘깁니다. 스트림은 실행 가상 스레드에서 읽습니다.
+	 */
+	public CompletableFuture<CallResult<String>> stream(PromptTemplate template, String content, Priority priority,
+		Consumer<String> onToken) {
+		Optional<String> cached = gptApiClient.findCached(template, content);
+		if (cached.isPresent()) {
+			onToken.accept(cached.get());
+			return CompletableFuture.completedFuture(CallResult.success(cached.get()));
+		}
+		return submitOnce(priority, cost(template, content), () -> gptApiClient.stream(template, content, onToken));
+	}
+
+	private int cost(PromptTemplate template, String content) {
+		return TokenEstimator.estimate(template.render(content)) + GptApiClient.MAX_COMPLETION_TOKENS;
+	}
+
+	/**
+	 * tokens 만큼의 토큰 예산으로 action 을 실행하도록 대기열에 넣습니다. 대기열이 가득 차면 BULKHEAD_FULL 로 실패합니다.
+	 * action 이 다시 시도할 수 있는 실패를 돌려주면 재시도 정책에 따라 대기열에 다시 넣습니다.
+	 */
+	<T> CompletableFuture<CallResult<T>> submit(Priority priority, int tokens, Supplier<CallResult<T>> action) {
+		return submit(priority, tokens, action, true);
+	}
+
+	/**
+	 * 실패해도 다시 시도하지 않습니다. 스트리밍처럼 이미 내보낸 결과가 있는 요청에 씁니다.
+	 */
+	<T> CompletableFuture<CallResult<T>> submitOnce(Priority priority, int tokens, Supplier<CallResult<T>> action) {
+		return submit(priority, tokens, action, false);
+	}
+
+	private <T> CompletableFuture<CallResult<T>> submit(Priority priority, int tokens, Supplier<CallResult<T>> action,
+		boolean retryable) {
+		if (queue.size() >= queueCapacity) {
+			rejected.increment();
+			return CompletableFuture.completedFuture(
+				CallResult.failure(FailureKind.BULKHEAD_FULL, "GPT 요청 대기열이 가득 찼습니다."));
+		}
+		Request<T> request = new Request<>(priority, sequence.getAndIncrement(), Math.min(tokens, maxRequestTokens),
+			action, retryable, 1, new CompletableFuture<>(), System.nanoTime());
+		queue.add(request);
+		return request.future();
+	}
+
+	@PostConstruct
+	public void start() {
+		dispatcher = Thread.ofPlatform().name("gpt-dispatcher").daemon().start(this::dispatchLoop);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (dispatcher != null) {
+			dispatcher.interrupt();
+		}
+		workers.shutdownNow();
+		Request<?> pending;
+		while ((pending = queue.poll()) != null) {
+			pending.fail(FailureKind.INTERRUPTED, "GPT 요청 스케줄러가 종료되었습니다.");
+		}
+	}
+
+	private void dispatchLoop() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				concurrency.acquire();
+				Request<?> request;
+				try {
+					request = awaitBudget(queue.take());
+				} catch (InterruptedException e) {
+					concurrency.release();
+					throw e;
+				}
+				workers.execute(() -> run(request));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * 요청을 보낼 예산이 생길 때까지 기다립니다. 기다리는 동안 더 급한 요청이 들어오면 그 요청을 먼저 보냅니다.
+	 */
+	private Request<?> awaitBudget(Request<?> request) throws InterruptedException {
+		while (true) {
+			long pausedNanos = pausedUntilNanos - System.nanoTime();
+			if (pausedNanos <= 0 && tryAcquireBudget(request.tokens())) {
+				return request;
+			}
+			Request<?> head = queue.peek();
+			if (head != null && head.compareTo(request) < 0) {
+				queue.add(request);
+				request = queue.take();
+				continue;
+			}
+			TimeUnit.NANOSECONDS.sleep(Math.max(POLL_NANOS, Math.min(pausedNanos, TimeUnit.SECONDS.toNanos(1))));
+		}
+	}
+
+	/**
+	 * 두 버킷 모두 여유가 있을 때만 차감합니다. 버킷은 디스패처 스레드만 쓰므로 확인과 차감 사이에 경쟁이 없습니다.
+	 */
+	private boolean tryAcquireBudget(double tokens) {
+		if (requestBudget.availablePermits() < 1 || tokenBudget.availablePermits() < tokens) {
+			return false;
+		}
+		requestBudget.tryAcquire(1);
+		tokenBudget.tryAcquire(tokens);
+		return true;
+	}
+
+	private <T> void run(Request<T> request) {
+		Timer.builder(METRIC_PREFIX + ".queue.wait")
+			.tag("priority", request.priority().name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.record(System.nanoTime() - request.enqueuedNanos(), TimeUnit.NANOSECONDS);
+		try {
+			CallResult<T> result = request.action().get();
+			if (result instanceof CallResult.Failure<T> failure) {
+				if (failure.kind() == FailureKind.RATE_LIMITED) {
+					rateLimited.increment();
+					pausedUntilNanos = System.nanoTime() + rateLimitCooldown.toNanos();
+					log.warn("GPT 요청 한도 초과 응답으로 {}ms 동안 새 요청을 보내지 않습니다.", rateLimitCooldown.toMillis());
+				}
+				if (failure.kind().isRetryable() && retry(request)) {
+					return;
+				}
+			}
+			request.future().complete(result);
+		} catch (RuntimeException e) {
+			log.error("GPT 요청 실행 중 오류 발생: {}", e.getMessage(), e);
+			request.fail(FailureKind.UNKNOWN, e.getMessage());
+		} finally {
+			concurrency.release();
+		}
+	}
+
+	/**
+	 * 재시도 횟수가 남았으면 백오프 뒤 같은 순번으로 대기열에 다시 넣습니다. 다시 꺼낼 때 예산을 새로 차감합니다.
+	 */
+	private <T> boolean retry(Request<T> request) {
+		RetryPolicy retryPolicy = gptApiClient.retryPolicy();
+		if (!request.retryable() || request.attempt() >= retryPolicy.maxAttempts()) {
+			return false;
+		}
+		retried.increment();
+		Request<T> next = request.nextAttempt();
+		CompletableFuture.delayedExecutor(retryPolicy.backoffMillis(request.attempt()), TimeUnit.MILLISECONDS)
+			.execute(() -> {
+				if (workers.isShutdown()) {
+					next.fail(FailureKind.INTERRUPTED, "GPT 요청 스케줄러가 종료되었습니다.");
+				} else {
+					queue.add(next);
+				}
+			});
+		return true;
+	}
+
+	private record Request<T>(Priority priority, long sequence, double tokens, Supplier<CallResult<T>> action,
+		boolean retryable, int attempt, CompletableFuture<CallResult<T>> future, long enqueuedNanos)
+		implements Comparable<Request<?>> {
+
+		@Override
+		public int compareTo(Request<?> other) {
+			int byPriority = priority.compareTo(other.priority);
+			return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+		}
+
+		void fail(FailureKind kind, String message) {
+			future.complete(CallResult.failure(kind, message));
+		}
+
+		Request<T> nextAttempt() {
+			return new Request<>(priority, sequence, tokens, action, retryable, attempt + 1, future, System.nanoTime());
+		}
+	}
+}
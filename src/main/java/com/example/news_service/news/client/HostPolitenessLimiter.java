@@ -0,0 +1,72 @@
+package com.example.news_service.news.client;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.util.TokenBucket;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 언론사(호스트)별 요청 속도와 동시 요청 수를 제한합니다.
+ * 병렬 크롤링 중에도 한 언론사에 요청이 몰려 차단되지 않도록 호스트마다 토큰 버킷과 세마포어를 둡니다.
+ */
+@Slf4j
+@Component
+public class HostPolitenessLimiter {
+
+	private final Map<String, HostLimit> limits = new ConcurrentHashMap<>();
+	private final double requestsPerSecond;
+	private final double burst;
+	private final int maxConcurrency;
+
+	public HostPolitenessLimiter(
+		@Value("${news.scraper.per-host.requests-per-second:2}") double requestsPerSecond,
+		@Value("${news.scraper.per-host.burst:4}") double burst,
+		@Value("${news.scraper.per-host.max-concurrency:2}") int maxConcurrency) {
+		this.requestsPerSecond = requestsPerSecond;
+		this.burst = burst;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * 호스트의 요청 허가를 얻을 때까지 대기합니다. 요청이 끝나면 반환된 Permit 을 닫아야 합니다.
+	 */
+	public Permit acquire(URI uri) throws InterruptedException {
+		String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+		HostLimit limit = limits.computeIfAbsent(host, h -> new HostLimit());
+
+		limit.concurrency.acquire();
+		try {
+			long waitedNanos = limit.rate.acquire(1);
+			if (waitedNanos > 0) {
+				log.debug("호스트 요청 속도 제한으로 대기: {} ({}ms)", host, TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+			}
+		} catch (InterruptedException e) {
+			limit.concurrency.release();
+			throw e;
+		}
+		return limit.concurrency::release;
+	}
+
+	/**
+	 * 호스트 요청 허가. 요청이 끝나면 close() 로 동시 요청 슬롯을 반환합니다.
+	 */
+	@FunctionalInterface
+	public interface Permit extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	private class HostLimit {
+		private final TokenBucket rate = new TokenBucket(requestsPerSecond, burst);
+		private final Semaphore concurrency = new Semaphore(maxConcurrency);
+	}
+}
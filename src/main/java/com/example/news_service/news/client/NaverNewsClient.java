@@ -1,37 +1,35 @@
 package com.example.news_service.news.client;
 
-import java.io.IOException;
 import java.net.URI;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.example.news_service.common.resilience.CallFailedException;
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.DependencyGuard;
+import com.example.news_service.common.resilience.FailureKind;
 import com.example.news_service.news.domain.News;
 import com.example.news_service.news.domain.NewsCategory;
-import com.example.news_service.news.domain.NewsStatus;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.news_service.news.entity.CrawlWatermark;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class NaverNewsClient {
 
 	private final RestTemplate restTemplate;
-	private final ObjectMapper objectMapper;
+	private final NaverNewsParser naverNewsParser;
+	private final DependencyGuard naverGuard;
 
 	@Value("${naver.news.client-id}")
 	private String clientId;
@@ -39,64 +37,86 @@ public class NaverNewsClient {
 	@Value("${naver.news.client-secret}")
 	private String clientSecret;
 
-	private static final String NAVER_NEWS_API_URL = "https://openapi.naver.com/v1/search/news.json";
+	static final String NAVER_NEWS_API_URL = "https://openapi.naver.com/v1/search/news.json";
+
+	// 부하 테스트 등에서 로컬 대역 서버로 바꿀 수 있음
+	@Value("${naver.news.api-url:" + NAVER_NEWS_API_URL + "}")
+	private String apiUrl;
+
+	public NaverNewsClient(RestTemplate restTemplate, NaverNewsParser naverNewsParser,
+		@Qualifier("naverGuard") DependencyGuard naverGuard) {
+		this.restTemplate = restTemplate;
+		this.naverNewsParser = naverNewsParser;
+		this.naverGuard = naverGuard;
+	}
 
 	/**
-	 * 네이버 뉴스 API에서 뉴스를 가져옵니다.
+	 * 네이버 뉴스 API에서 워터마크 이후에 발행된 뉴스만 가져옵니다.
+	 * 결과가 최신순이므로 처음으로 이미 본 기사가 나오면 그 뒤는 모두 버립니다.
 	 */
-	public List<News> fetchNewsFromNaver(NewsCategory category, int display) {
-		try {
-			// 카테고리명 대신 더 일반적인 검색어 사용
-			String query = getSearchQueryForCategory(category);
-
-			// UriComponentsBuilder를 사용하여 안전한 URL 생성
-			URI uri = UriComponentsBuilder
-				.fromHttpUrl(NAVER_NEWS_API_URL)
-				.queryParam("query", query)
-				.queryParam("display", display)
-				.queryParam("sort", "date")
-				.build()
-				.encode()
-				.toUri();
-
-			log.info("네이버 API 호출 URL: {}", uri);
-			log.info("검색 쿼리: {}", query);
-			log.info("Client ID: {}", clientId);
-			log.info("Client Secret: {}", clientSecret);
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.set("X-Naver-Client-Id", clientId);
-			headers.set("X-Naver-Client-Secret", clientSecret);
-			headers.set("Content-Type", "application/json");
-			headers.set("Accept", "application/json");
-
-			HttpEntity<String> entity = new HttpEntity<>(headers);
-
-			log.info("API 호출 시작...");
-			ResponseEntity<String> response = restTemplate.exchange(
-				uri, HttpMethod.GET, entity, String.class);
-
-			log.info("API 응답 상태: {}", response.getStatusCode());
-			log.info("API 응답 헤더: {}", response.getHeaders());
-
-			if (response.getStatusCode().is2xxSuccessful()) {
-				return parseNewsResponse(response.getBody(), category);
-			} else {
-				log.error("API 호출 실패: {}", response.getStatusCode());
-				log.error("응답 본문: {}", response.getBody());
-				return new ArrayList<>();
+	public CallResult<List<News>> fetchNewsFromNaver(NewsCategory category, int display, CrawlWatermark watermark) {
+		CallResult<List<News>> result = fetchNewsFromNaver(category, display);
+		if (watermark == null) {
+			return result;
+		}
+		return result.map(fetched -> unseenSince(watermark, category, fetched));
+	}
+
+	private List<News> unseenSince(CrawlWatermark watermark, NewsCategory category, List<News> fetched) {
+		List<News> unseen = new ArrayList<>();
+		for (News news : fetched) {
+			if (watermark.isSeen(news)) {
+				break;
 			}
+			unseen.add(news);
+		}
+		log.info("{} 카테고리 워터마크 이후 기사: {}/{}", category.getName(), unseen.size(), fetched.size());
+		return unseen;
+	}
+
+	/**
+	 * 네이버 뉴스 API에서 뉴스를 가져옵니다. 일시적인 실패는 재시도하고, 끝내 실패하면 빈 목록 대신 실패 유형을 돌려줍니다.
+	 */
+	public CallResult<List<News>> fetchNewsFromNaver(NewsCategory category, int display) {
+		return naverGuard.call(() -> requestNews(category, display));
+	}
+
+	private List<News> requestNews(NewsCategory category, int display) {
+		// 카테고리명 대신 더 일반적인 검색어 사용
+		String query = getSearchQueryForCategory(category);
+
+		// UriComponentsBuilder를 사용하여 안전한 URL 생성
+		URI uri = UriComponentsBuilder
+			.fromHttpUrl(apiUrl)
+			.queryParam("query", query)
+			.queryParam("display", display)
+			.queryParam("sort", "date")
+			.build()
+			.encode()
+			.toUri();
 
-		} catch (Exception e) {
-			log.error("네이버 뉴스 API 호출 중 오류 발생: {}", e.getMessage(), e);
-			return new ArrayList<>();
+		log.debug("네이버 API 호출: {}", uri);
+
+		try {
+			// 응답 본문을 문자열로 모으지 않고 스트림에서 바로 파싱
+			return restTemplate.execute(uri, HttpMethod.GET,
+				request -> {
+					HttpHeaders headers = request.getHeaders();
+					headers.set("X-Naver-Client-Id", clientId);
+					headers.set("X-Naver-Client-Secret", clientSecret);
+					headers.set("Accept", "application/json");
+				},
+				response -> naverNewsParser.parse(response.getBody(), category));
+		} catch (RestClientResponseException e) {
+			throw new CallFailedException(FailureKind.ofHttpStatus(e.getStatusCode().value()),
+				"네이버 뉴스 API 응답 " + e.getStatusCode(), e);
 		}
 	}
 
 	/**
 	 * 카테고리에 따른 검색 쿼리를 반환합니다.
 	 */
-	private String getSearchQueryForCategory(NewsCategory category) {
+	static String getSearchQueryForCategory(NewsCategory category) {
 		switch (category) {
 			case POLITICS:
 				return "정치";
@@ -118,131 +138,4 @@ public class NaverNewsClient {
 				return "뉴스";
 		}
 	}
-
-	/**
-	 * 네이버 뉴스 API 응답을 파싱합니다.
-	 */
-	private List<News> parseNewsResponse(String responseBody, NewsCategory category) {
-		List<News> newsList = new ArrayList<>();
-
-		try {
-			log.info("응답 본문: {}", responseBody);
-
-			JsonNode rootNode = objectMapper.readTree(responseBody);
-			JsonNode itemsNode = rootNode.get("items");
-
-			if (itemsNode != null && itemsNode.isArray()) {
-				log.info("뉴스 아이템 개수: {}", itemsNode.size());
-
-				for (JsonNode itemNode : itemsNode) {
-					News news = parseNewsItem(itemNode, category);
-					if (news != null) {
-						newsList.add(news);
-					}
-				}
-			} else {
-				log.warn("뉴스 아이템을 찾을 수 없습니다.");
-			}
-
-		} catch (IOException e) {
-			log.error("뉴스 응답 파싱 중 오류 발생: {}", e.getMessage(), e);
-		}
-
-		return newsList;
-	}
-
-	/**
-	 * 개별 뉴스 아이템을 파싱합니다.
-	 */
-	private News parseNewsItem(JsonNode itemNode, NewsCategory category) {
-		try {
-			String title = cleanHtmlTags(itemNode.get("title").asText());
-			String description = cleanHtmlTags(itemNode.get("description").asText());
-			String link = itemNode.get("link").asText();
-			String originallink = itemNode.has("originallink") ? itemNode.get("originallink").asText() : link;
-			String pubDate = itemNode.get("pubDate").asText();
-
-			// 출처 추출 (title에서 <b> 태그 사이의 내용)
-			String source = extractSource(title);
-
-			// HTML 태그 제거
-			title = removeHtmlTags(title);
-			description = removeHtmlTags(description);
-
-			// 발행일 파싱
-			LocalDateTime publishedAt = parsePubDate(pubDate);
-
-			return News.builder()
-				.title(title)
-				.originalUrl(originallink)
-				.source(source)
-				.category(category)
-				.status(NewsStatus.ACTIVE)
-				.publishedAt(publishedAt)
-				.build();
-
-		} catch (Exception e) {
-			log.error("뉴스 아이템 파싱 중 오류 발생: {}", e.getMessage(), e);
-			return null;
-		}
-	}
-
-	/**
-	 * HTML 태그를 제거
-	 */
-	private String cleanHtmlTags(String text) {
-		if (text == null)
-			return "";
-		return text.replaceAll("<[^>]*>", "");
-	}
-
-	/**
-	 * HTML 태그를 제거
-	 */
-	private String removeHtmlTags(String text) {
-		if (text == null)
-			return "";
-		return text.replaceAll("<[^>]*>", "").trim();
-	}
-
-	/**
-	 * 출처를 추출
-	 */
-	private String extractSource(String title) {
-		try {
-			// <b>태그 사이의 내용이 출처인 경우가 많음
-			int startIndex = title.indexOf("<b>");
-			int endIndex = title.indexOf("</b>");
-
-			if (startIndex != -1 && endIndex != -1 && endIndex > startIndex) {
-				return title.substring(startIndex + 3, endIndex).trim();
-			}
-
-			// 다른 패턴으로 출처 추출 시도
-			if (title.contains("|")) {
-				String[] parts = title.split("\\|");
-				if (parts.length > 1) {
-					return parts[0].trim();
-				}
-			}
-
-			return "네이버뉴스";
-		} catch (Exception e) {
-			return "네이버뉴스";
-		}
-	}
-
-	/**
-	 * 발행일을 파싱
-	 */
-	private LocalDateTime parsePubDate(String pubDate) {
-		try {
-			// RFC 822 형식: "Wed, 22 Jun 2025 14:30:00 +0900"
-			DateTimeFormatter formatter = DateTimeFormatter.RFC_1123_DATE_TIME;
-			return LocalDateTime.parse(pubDate, formatter);
-		} catch (Exception e) {
-			log.warn("발행일 파싱 실패: {}, 현재 시간 사용", pubDate);
-			return LocalDateTime.now();
-		}
-	}
-} 
\ No newline at end of file
+}
@@ -0,0 +1,235 @@
+package com.example.news_service.news.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.domain.NewsStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네이버 뉴스 검색 API 응답을 News 목록으로 변환합니다.
+ * JsonNode 트리를 만들지 않고 스트리밍 파서로 items 배열만 읽어 바로 News 로 매핑합니다.
+ */
+@Component
+@Slf4j
+public class NaverNewsParser {
+
+	private static final String DEFAULT_SOURCE = "네이버뉴스";
+
+	private final JsonFactory jsonFactory;
+
+	public NaverNewsParser(ObjectMapper objectMapper) {
+		this.jsonFactory = objectMapper.getFactory();
+	}
+
+	/**
+	 * 네이버 뉴스 API 응답을 파싱합니다.
+	 */
+	public List<News> parse(String responseBody, NewsCategory category) {
+		try (JsonParser parser = jsonFactory.createParser(responseBody)) {
+			return parse(parser, category);
+		} catch (IOException e) {
+			log.error("뉴스 응답 파싱 중 오류 발생: {}", e.getMessage(), e);
+			return new ArrayList<>();
+		}
+	}
+
+	/**
+	 * 응답 스트림을 문자열로 모으지 않고 바로 파싱합니다.
+	 */
+	public List<News> parse(InputStream responseBody, NewsCategory category) throws IOException {
+		try (JsonParser parser = jsonFactory.createParser(responseBody)) {
+			return parse(parser, category);
+		}
+	}
+
+	private List<News> parse(JsonParser parser, NewsCategory category) throws IOException {
+		List<News> newsList = new ArrayList<>();
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			log.warn("뉴스 응답 형식이 올바르지 않습니다.");
+			return newsList;
+		}
+
+		boolean itemsFound = false;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+				itemsFound = true;
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					News news = parseNewsItem(parser, category);
+					if (news != null) {
+						newsList.add(news);
+					}
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		if (itemsFound) {
+			log.debug("뉴스 아이템 개수: {}", newsList.size());
+		} else {
+			log.warn("뉴스 아이템을 찾을 수 없습니다.");
+		}
+		return newsList;
+	}
+
+	/**
+	 * 개별 뉴스 아이템을 파싱합니다. 파서는 아이템 객체의 START_OBJECT 위치에 있어야 합니다.
+	 * description 은 사용하지 않으므로 읽지 않고 건너뜁니다.
+	 */
+	private News parseNewsItem(JsonParser parser, NewsCategory category) throws IOException {
+		String title = null;
+		String link = null;
+		String originallink = null;
+		String pubDate = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if (value != JsonToken.VALUE_STRING) {
+				parser.skipChildren();
+				continue;
+			}
+			switch (field) {
+				case "title" -> title = parser.getText();
+				case "link" -> link = parser.getText();
+				case "originallink" -> originallink = parser.getText();
+				case "pubDate" -> pubDate = parser.getText();
+				default -> {
+				}
+			}
+		}
+
+		if (title == null || link == null || pubDate == null) {
+			log.warn("필수 필드가 없는 뉴스 아이템을 건너뜁니다: {}", link);
+			return null;
+		}
+
+		String plainTitle = toPlainText(title);
+		return News.builder()
+			.title(plainTitle)
+			.originalUrl(originallink == null || originallink.isBlank() ? link : originallink)
+			.source(extractSource(plainTitle))
+			.category(category)
+			.status(NewsStatus.ACTIVE)
+			.publishedAt(parsePubDate(pubDate))
+			.build();
+	}
+
+	/**
+	 * HTML 태그를 제거하고 엔티티(&amp;quot; 등)를 복원한 뒤 앞뒤 공백을 자릅니다. 한 번의 순회로 처리합니다.
+	 * 닫히지 않은 '&lt;' 와 알 수 없는 엔티티는 그대로 둡니다.
+	 */
+	static String toPlainText(String html) {
+		int length = html.length();
+		StringBuilder text = new StringBuilder(length);
+		int i = 0;
+		while (i < length) {
+			char c = html.charAt(i);
+			if (c == '<') {
+				int close = html.indexOf('>', i + 1);
+				if (close < 0) {
+					text.append(html, i, length);
+					break;
+				}
+				i = close + 1;
+			} else if (c == '&') {
+				i = appendEntity(html, i, text);
+			} else {
+				text.append(c);
+				i++;
+			}
+		}
+		return text.toString().strip();
+	}
+
+	/**
+	 * start 위치의 엔티티를 복원해 덧붙이고 다음 읽을 위치를 반환합니다.
+	 */
+	private static int appendEntity(String html, int start, StringBuilder text) {
+		int semicolon = html.indexOf(';', start + 1);
+		if (semicolon < 0 || semicolon - start > 10) {
+			text.append('&');
+			return start + 1;
+		}
+
+		int codePoint = decodeEntity(html, start + 1, semicolon);
+		if (codePoint < 0) {
+			text.append('&');
+			return start + 1;
+		}
+		text.appendCodePoint(codePoint);
+		return semicolon + 1;
+	}
+
+	private static int decodeEntity(String html, int from, int to) {
+		if (html.charAt(from) == '#') {
+			boolean hex = from + 1 < to && (html.charAt(from + 1) == 'x' || html.charAt(from + 1) == 'X');
+			try {
+				int codePoint = Integer.parseInt(html, hex ? from + 2 : from + 1, to, hex ? 16 : 10);
+				return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+		return switch (html.substring(from, to)) {
+			case "amp" -> '&';
+			case "lt" -> '<';
+			case "gt" -> '>';
+			case "quot" -> '"';
+			case "apos" -> '\'';
+			case "nbsp" -> ' ';
+			case "middot" -> '·';
+			case "hellip" -> '…';
+			case "lsquo" -> '‘';
+			case "rsquo" -> '’';
+			case "ldquo" -> '“';
+			case "rdquo" -> '”';
+			default -> -1;
+		};
+	}
+
+	/**
+	 * 출처를 추출 ("언론사 | 제목" 형식이면 앞부분)
+	 */
+	static String extractSource(String title) {
+		int separator = title.indexOf('|');
+		if (separator < 0) {
+			return DEFAULT_SOURCE;
+		}
+		for (int i = separator + 1; i < title.length(); i++) {
+			if (title.charAt(i) != '|') {
+				return title.substring(0, separator).trim();
+			}
+		}
+		return DEFAULT_SOURCE;
+	}
+
+	/**
+	 * 발행일을 파싱
+	 */
+	private LocalDateTime parsePubDate(String pubDate) {
+		try {
+			// RFC 822 형식: "Wed, 22 Jun 2025 14:30:00 +0900"
+			return LocalDateTime.parse(pubDate, DateTimeFormatter.RFC_1123_DATE_TIME);
+		} catch (Exception e) {
+			log.warn("발행일 파싱 실패: {}, 현재 시간 사용", pubDate);
+			return LocalDateTime.now();
+		}
+	}
+}
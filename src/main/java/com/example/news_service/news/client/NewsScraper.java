@@ -1,19 +1,67 @@
 package com.example.news_service.news.client;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import com.example.news_service.common.resilience.CallFailedException;
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.DependencyGuard;
+import com.example.news_service.common.resilience.FailureKind;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 public class NewsScraper {
 
+	private final HttpClient scraperHttpClient;
+	private final HostPolitenessLimiter hostPolitenessLimiter;
+	private final DependencyGuard scraperGuard;
+	private final RawHtmlArchive rawHtmlArchive;
+	private final Duration requestTimeout;
+	private final StreamingHtmlParser htmlParser;
+	private final int maxBodyBytes;
+	private final SelectorMemory contentSelectorMemory;
+	private final SelectorMemory imageSelectorMemory;
+
+	public NewsScraper(HttpClient scraperHttpClient,
+		HostPolitenessLimiter hostPolitenessLimiter,
+		@Qualifier("scraperGuard") DependencyGuard scraperGuard,
+		RawHtmlArchive rawHtmlArchive,
+		MeterRegistry meterRegistry,
+		@Value("${news.scraper.request-timeout:10s}") Duration requestTimeout,
+		@Value("${news.scraper.selector-memory.max-hosts:1024}") int selectorMemoryMaxHosts,
+		@Value("${news.scraper.max-body-size:2MB}") DataSize maxBodySize) {
+		this.scraperHttpClient = scraperHttpClient;
+		this.hostPolitenessLimiter = hostPolitenessLimiter;
+		this.scraperGuard = scraperGuard;
+		this.rawHtmlArchive = rawHtmlArchive;
+		this.requestTimeout = requestTimeout;
+		this.htmlParser = new StreamingHtmlParser(maxBodySize.toBytes(), CONTENT_SELECTORS, meterRegistry);
+		this.maxBodyBytes = Math.toIntExact(maxBodySize.toBytes());
+		this.contentSelectorMemory = new SelectorMemory("content", CONTENT_SELECTORS, selectorMemoryMaxHosts, meterRegistry);
+		// 마지막 "img" 는 아무 이미지나 고르므로 기억하지 않음
+		this.imageSelectorMemory = new SelectorMemory("image", IMAGE_SELECTORS, IMAGE_SELECTORS.length - 1,
+			selectorMemoryMaxHosts, meterRegistry);
+	}
+
 	private static final String[] CONTENT_SELECTORS = {
 		"article#dic_area",             // 네이버 뉴스 (일반)
 		"div#newsct_article",           // 네이버 뉴스 (스포츠)
@@ -37,78 +85,209 @@ public class NewsScraper {
 		"img"                                  // 모든 이미지 (마지막 선택자)
 	};
 
-	public String scrapeNewsContent(String url) {
-		try {
-			log.info("뉴스 스크래핑 시작: {}", url);
-			Document doc = Jsoup.connect(url)
-								.userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/108.0.0.0 Safari/537.36")
-								.get();
-
-			for (String selector : CONTENT_SELECTORS) {
-				Elements articleBody = doc.select(selector);
-				if (!articleBody.isEmpty() && !articleBody.text().isEmpty()) {
-					String content = articleBody.text();
-					log.info("뉴스 스크래핑 성공 (선택자: {}). 내용 길이: {}", selector, content.length());
-					return content;
-				}
-			}
+	private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/108.0.0.0 Safari/537.36";
 
-			log.warn("모든 선택자로 본문 스크래핑 실패: {}", url);
-			return ""; // 또는 null
+	/**
+	 * 기사 페이지를 한 번만 가져와서 본문, 대표 이미지, canonical URL, og:title, 발행 시각을 함께 추출합니다.
+	 * 서킷 브레이커는 언론사 호스트마다 따로 두므로, 한 언론사가 장애여도 다른 언론사 기사는 계속 가져옵니다.
+	 */
+	public CallResult<ArticleExtraction> extractArticle(String url) {
+		log.info("뉴스 기사 추출 시작: {}", url);
+		return scraperGuard.call(hostKey(url), () -> extract(fetchDocument(url), url));
+	}
 
+	/**
+	 * 네트워크 없이 보관해 둔 원본 HTML 로 기사를 다시 추출합니다. 가져올 때와 같은 기준 위치로 파싱하며, 실패하면 null 을 반환합니다.
+	 */
+	public ArticleExtraction extractArchivedArticle(RawHtmlArchive.ArchivedPage page) {
+		try {
+			Document doc = htmlParser.parse(new ByteArrayInputStream(page.html()), charsetOf(page.contentType()), page.baseUri());
+			return extract(doc, page.url());
 		} catch (IOException e) {
-			log.error("뉴스 스크래핑 중 오류 발생: {}", url, e);
+			log.error("보관한 기사 추출 중 오류 발생: {}", page.url(), e);
 			return null;
 		}
 	}
 
+	private ArticleExtraction extract(Document doc, String url) {
+		ArticleExtraction extraction = ArticleExtraction.builder()
+			.url(url)
+			.content(extractContent(doc, url))
+			.imageUrl(extractImageUrl(doc, url))
+			.canonicalUrl(extractCanonicalUrl(doc))
+			.ogTitle(metaContent(doc, "meta[property='og:title']"))
+			.publishedTime(metaContent(doc, "meta[property='article:published_time']"))
+			.build();
+
+		log.info("뉴스 기사 추출 완료: {} (본문 {}, 이미지 {})", url, extraction.hasContent(), extraction.hasImage());
+		return extraction;
+	}
+
 	/**
-	 * 뉴스 기사에서 대표 이미지 URL을 추출합니다.
+	 * 공유 HTTP 클라이언트로 페이지를 가져와 파싱합니다. 호스트별 속도/동시성 제한을 지키며, gzip 응답을 받습니다.
+	 * 본문 컨테이너와 og 메타 태그를 찾으면 나머지 응답은 읽지 않으며, news.scraper.max-body-size 를 넘는 부분은 파싱하지 않습니다.
+	 * 보관소가 켜져 있으면 압축을 푼 원본 HTML 을 다시 추출할 수 있도록 남깁니다.
 	 */
-	public String extractImageUrl(String url) {
+	private Document fetchDocument(String url) throws IOException {
+		URI uri = URI.create(url.trim());
+		HttpRequest request = HttpRequest.newBuilder(uri)
+			.timeout(requestTimeout)
+			.header("User-Agent", USER_AGENT)
+			.header("Accept", "text/html,application/xhtml+xml")
+			.header("Accept-Encoding", "gzip")
+			.GET()
+			.build();
+
 		try {
-			log.info("이미지 URL 추출 시작: {}", url);
-			Document doc = Jsoup.connect(url)
-								.userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/108.0.0.0 Safari/537.36")
-								.get();
-
-			// 메타 태그에서 이미지 URL 추출 (우선순위 높음)
-			for (String selector : IMAGE_SELECTORS) {
-				Elements elements = doc.select(selector);
-				for (Element element : elements) {
-					String imageUrl = null;
-					
-					if (selector.startsWith("meta")) {
-						// 메타 태그의 경우 content 속성에서 URL 추출
-						imageUrl = element.attr("content");
-					} else {
-						// img 태그의 경우 src 속성에서 URL 추출
-						imageUrl = element.attr("src");
+			HostPolitenessLimiter.Permit permit = hostPolitenessLimiter.acquire(uri);
+			try {
+				HttpResponse<InputStream> response = scraperHttpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+				try (InputStream body = decodeBody(response)) {
+					if (response.statusCode() / 100 != 2) {
+						throw new CallFailedException(FailureKind.ofHttpStatus(response.statusCode()),
+							"HTTP " + response.statusCode() + " 응답: " + url);
 					}
-					
-					if (isValidImageUrl(imageUrl)) {
-						// 상대 URL인 경우 절대 URL로 변환
-						if (imageUrl.startsWith("//")) {
-							imageUrl = "https:" + imageUrl;
-						} else if (imageUrl.startsWith("/")) {
-							// 도메인 추출
-							String domain = extractDomain(url);
-							imageUrl = domain + imageUrl;
-						}
-						
-						log.info("이미지 URL 추출 성공: {}", imageUrl);
-						return imageUrl;
+					String contentType = response.headers().firstValue("Content-Type").orElse(null);
+					String baseUri = response.uri().toString();
+					if (!rawHtmlArchive.isEnabled()) {
+						return htmlParser.parse(body, charsetOf(contentType), baseUri);
 					}
+					// 보관할 때는 페이지 전체(최대 크기까지)를 읽어야 함
+					byte[] html = body.readNBytes(maxBodyBytes);
+					rawHtmlArchive.store(url, baseUri, html, contentType);
+					return htmlParser.parse(new ByteArrayInputStream(html), charsetOf(contentType), baseUri);
 				}
+			} finally {
+				permit.close();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("뉴스 페이지 요청이 중단되었습니다: " + url);
+		}
+	}
+
+	private InputStream decodeBody(HttpResponse<InputStream> response) throws IOException {
+		String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+		if ("gzip".equalsIgnoreCase(encoding.trim())) {
+			return new GZIPInputStream(response.body());
+		}
+		return response.body();
+	}
+
+	/**
+	 * Content-Type 헤더의 charset 을 반환합니다. 없으면 null 을 반환해 jsoup 이 meta 태그로 판단하게 합니다.
+	 */
+	private String charsetOf(String contentType) {
+		if (contentType == null) {
+			return null;
+		}
+		for (String part : contentType.split(";")) {
+			String param = part.trim();
+			if (param.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+				return param.substring("charset=".length()).replace("\"", "").trim();
 			}
+		}
+		return null;
+	}
+
+	/**
+	 * 본문 선택자를 적용해 기사 본문을 추출합니다. 이 호스트에서 마지막으로 성공한 선택자를 먼저 시도합니다.
+	 */
+	private String extractContent(Document doc, String url) {
+		String content = contentSelectorMemory.firstMatch(hostOf(doc, url), index -> {
+			String text = doc.select(CONTENT_SELECTORS[index]).text();
+			return text.isEmpty() ? null : text;
+		});
+
+		if (content == null) {
+			log.warn("모든 선택자로 본문 스크래핑 실패: {}", url);
+			return ""; // 또는 null
+		}
+		log.info("뉴스 스크래핑 성공. 내용 길이: {}", content.length());
+		return content;
+	}
 
+	/**
+	 * 이미지 선택자를 적용해 대표 이미지 URL을 추출합니다. 이 호스트에서 마지막으로 성공한 선택자를 먼저 시도합니다.
+	 */
+	private String extractImageUrl(Document doc, String url) {
+		String imageUrl = imageSelectorMemory.firstMatch(hostOf(doc, url),
+			index -> findImageUrl(doc, IMAGE_SELECTORS[index], url));
+
+		if (imageUrl == null) {
 			log.warn("이미지 URL 추출 실패: {}", url);
 			return null;
+		}
+		log.info("이미지 URL 추출 성공: {}", imageUrl);
+		return imageUrl;
+	}
 
-		} catch (IOException e) {
-			log.error("이미지 URL 추출 중 오류 발생: {}", url, e);
+	/**
+	 * 선택자에 걸리는 요소 중 처음으로 유효한 이미지 URL을 반환합니다.
+	 */
+	private String findImageUrl(Document doc, String selector, String url) {
+		// 메타 태그는 content 속성, img 태그는 src 속성에서 URL 추출
+		String attribute = selector.startsWith("meta") ? "content" : "src";
+		for (Element element : doc.select(selector)) {
+			String imageUrl = element.attr(attribute);
+			if (!isValidImageUrl(imageUrl)) {
+				continue;
+			}
+
+			// 상대 URL인 경우 절대 URL로 변환
+			if (imageUrl.startsWith("//")) {
+				return "https:" + imageUrl;
+			} else if (imageUrl.startsWith("/")) {
+				return extractDomain(url) + imageUrl;
+			}
+			return imageUrl;
+		}
+		return null;
+	}
+
+	/**
+	 * 선택자 기억에 쓸 호스트. 리다이렉트된 경우 최종 페이지의 호스트를 사용합니다.
+	 */
+	private String hostOf(Document doc, String url) {
+		try {
+			String location = doc.location().isEmpty() ? url.trim() : doc.location();
+			String host = URI.create(location).getHost();
+			return host == null ? null : host.toLowerCase(Locale.ROOT);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 서킷 브레이커 key 로 쓸 요청 URL 의 호스트
+	 */
+	private String hostKey(String url) {
+		try {
+			String host = URI.create(url.trim()).getHost();
+			return host == null ? "unknown" : host.toLowerCase(Locale.ROOT);
+		} catch (IllegalArgumentException e) {
+			return "unknown";
+		}
+	}
+
+	/**
+	 * canonical 링크를 추출합니다. 없으면 og:url 을 사용합니다.
+	 */
+	private String extractCanonicalUrl(Document doc) {
+		Element canonical = doc.selectFirst("link[rel=canonical]");
+		if (canonical != null && !canonical.absUrl("href").isEmpty()) {
+			return canonical.absUrl("href");
+		}
+		return metaContent(doc, "meta[property='og:url']");
+	}
+
+	private String metaContent(Document doc, String selector) {
+		Element meta = doc.selectFirst(selector);
+		if (meta == null) {
 			return null;
 		}
+		String content = meta.attr("content").trim();
+		return content.isEmpty() ? null : content;
 	}
 
 	/**
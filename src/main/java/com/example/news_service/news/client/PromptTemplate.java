@@ -0,0 +1,50 @@
+package com.example.news_service.news.client;
+
+/**
+ * 본문 자리(%s)가 하나 있는 GPT 프롬프트 템플릿. 요약 캐시는 템플릿과 본문을 나눠 키를 만듭니다.
+ * AI 분석에는 프롬프트 전체 대신 id 와 본문 해시만 저장하므로, 내장 템플릿 문구를 바꾸면 id 의 버전도 올려야 합니다.
+ */
+public record PromptTemplate(String id, String text) {
+
+	public static final String CUSTOM_ID = "custom";
+
+	public static final PromptTemplate NEWS_SUMMARY = new PromptTemplate("news-summary-v1", """
+		You are a friendly and witty news editor, like 'Newneek'. Your task is to summarize the following news article.
+		- Start with a catchy, questioning title.
+		- Use markdown for formatting.
+		- Use bullet points (•) and bold text to break down the key events or points chronologically or by importance.
+		- The tone should be easy to understand, engaging, and conversational for a young adult audience.
+		- Explain the background and why this news is important.
+		- Ensure the output is in Korean.
+
+		---
+		[News Article]
+		%s
+		""");
+
+	/**
+	 * 긴 기사를 나눈 조각 하나를 요약하는 템플릿. 조각 요약들을 이어 붙여 최종 요약 템플릿에 넣습니다.
+	 */
+	public static final PromptTemplate ARTICLE_PART = new PromptTemplate("article-part-v1", """
+		The following text is one part of a longer news article. Summarize only this part.
+		- Keep every key fact: who, what, when, where, numbers and direct quotes.
+		- Skip advertisements, navigation text, photo captions and copyright notices.
+		- Write short plain bullet points without a title.
+		- Ensure the output is in Korean.
+
+		---
+		[Article Part]
+		%s
+		""");
+
+	/**
+	 * 사용자가 입력한 지시문 뒤에 본문을 붙이는 템플릿
+	 */
+	public static PromptTemplate custom(String instructions) {
+		return new PromptTemplate(CUSTOM_ID, instructions.replace("%", "%%") + "\\n\\n%s");
+	}
+
+	public String render(String content) {
+		return String.format(text, content);
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.news_service.news.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.example.news_service.common.archive.ArchivedEntry;
+import com.example.news_service.common.archive.SegmentArchive;
+import com.example.news_service.news.domain.UrlHash;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가져온 기사 페이지의 원본 HTML 을 로컬 디스크에 압축 보관합니다 (news.archive.enabled).
+ * 선택자나 요약을 개선한 뒤 다시 추출할 때 네트워크 없이 보관본을 읽습니다. 보관에 실패해도 스크래핑은 계속합니다.
+ */
+@Slf4j
+@Component
+public class RawHtmlArchive {
+
+	private static final String METRIC_PREFIX = "news.archive";
+
+	private final SegmentArchive archive;
+	private final Counter stored;
+	private final Counter deduplicated;
+
+	public RawHtmlArchive(
+		@Value("${news.archive.enabled:false}") boolean enabled,
+		@Value("${news.archive.dir:./data/html-archive}") Path directory,
+		@Value("${news.archive.max-segment-size:256MB}") DataSize maxSegmentSize,
+		@Value("${news.archive.compression-level:6}") int compressionLevel,
+		MeterRegistry meterRegistry) throws IOException {
+		this.archive = enabled ? new SegmentArchive(directory, maxSegmentSize.toBytes(), compressionLevel) : null;
+		this.stored = Counter.builder(METRIC_PREFIX + ".pages").tag("result", "stored").register(meterRegistry);
+		this.deduplicated = Counter.builder(METRIC_PREFIX + ".pages").tag("result", "deduplicated").register(meterRegistry);
+		if (enabled) {
+			Gauge.builder(METRIC_PREFIX + ".entries", archive, SegmentArchive::size).register(meterRegistry);
+		}
+	}
+
+	public boolean isEnabled() {
+		return archive != null;
+	}
+
+	/**
+	 * 기사 URL 의 원본 HTML 을 보관합니다. baseUri 는 리다이렉트 후 최종 URL 로, 다시 추출할 때도 이 위치를 기준으로 파싱합니다.
+	 * 보관소가 꺼져 있으면 아무것도 하지 않습니다.
+	 */
+	public void store(String url, String baseUri, byte[] html, String contentType) {
+		if (archive == null) {
+			return;
+		}
+		try {
+			if (archive.put(UrlHash.digest(url.trim()), html, url.trim(), baseUri, contentType, System.currentTimeMillis())) {
+				stored.increment();
+			} else {
+				deduplicated.increment();
+			}
+		} catch (IOException e) {
+			log.warn("원본 HTML 보관 실패: {} - {}", url, e.getMessage());
+		}
+	}
+
+	/**
+	 * 보관한 모든 페이지 항목을 디스크 순서대로 반환합니다.
+	 */
+	public List<ArchivedEntry> entries() {
+		return archive == null ? List.of() : archive.entries();
+	}
+
+	public ArchivedPage load(ArchivedEntry entry) {
+		try {
+			String baseUri = entry.baseUri() != null ? entry.baseUri() : entry.source();
+			return new ArchivedPage(entry.source(), baseUri, archive.read(entry), entry.contentType());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		if (archive != null) {
+			archive.close();
+		}
+	}
+
+	/**
+	 * 보관한 기사 페이지. baseUri 는 가져올 때 파싱한 기준 위치입니다(이전 보관본은 url 과 같음).
+	 */
+	public record ArchivedPage(String url, String baseUri, byte[] html, String contentType) {
+	}
+}
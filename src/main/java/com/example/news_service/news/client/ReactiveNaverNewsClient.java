@@ -0,0 +1,116 @@
+package com.example.news_service.news.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.news_service.common.resilience.CallFailedException;
+import com.example.news_service.common.resilience.DependencyGuard;
+import com.example.news_service.common.resilience.FailureKind;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.entity.CrawlWatermark;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebClient 기반 네이버 뉴스 클라이언트. 파이프라인의 deep fetch 가 한 카테고리를 여러 페이지 조회할 때 씁니다.
+ * start 오프셋으로 API 한도(start 최대 1000, display 최대 100)까지 페이지를 넘기며,
+ * 카테고리 워터마크에 닿은 페이지 이후로는 더 이상 요청하지 않습니다.
+ * 페이지마다 NaverNewsClient 와 같은 네이버 호출 보호 장치(naverGuard)로 재시도/서킷 브레이커를 적용하고,
+ * 응답 본문은 문자열로 모으지 않고 스트림에서 바로 파싱합니다. 끝내 실패하면 CallFailedException 으로 끝납니다.
+ */
+@Slf4j
+@Component
+public class ReactiveNaverNewsClient {
+
+	static final int MAX_DISPLAY = 100;
+	static final int MAX_START = 1000;
+	private static final int BODY_PREFETCH = 16;
+
+	private final WebClient webClient;
+	private final NaverNewsParser naverNewsParser;
+	private final DependencyGuard naverGuard;
+	private final Duration responseTimeout;
+
+	public ReactiveNaverNewsClient(WebClient.Builder webClientBuilder,
+		NaverNewsParser naverNewsParser,
+		@Qualifier("naverGuard") DependencyGuard naverGuard,
+		@Value("${naver.news.client-id}") String clientId,
+		@Value("${naver.news.client-secret}") String clientSecret,
+		@Value("${naver.news.api-url:" + NaverNewsClient.NAVER_NEWS_API_URL + "}") String apiUrl,
+		@Value("${naver.news.reactive.response-timeout:10s}") Duration responseTimeout) {
+		this.webClient = webClientBuilder
+			.baseUrl(apiUrl)
+			.defaultHeader("X-Naver-Client-Id", clientId)
+			.defaultHeader("X-Naver-Client-Secret", clientSecret)
+			.defaultHeader("Accept", MediaType.APPLICATION_JSON_VALUE)
+			.build();
+		this.naverNewsParser = naverNewsParser;
+		this.naverGuard = naverGuard;
+		this.responseTimeout = responseTimeout;
+	}
+
+	/**
+	 * 한 카테고리의 뉴스를 최신순으로 페이지를 넘기며 조회합니다.
+	 * 워터마크가 주어지면 처음으로 이미 본 기사가 나오는 페이지에서 멈추고, 그 기사부터는 내보내지 않습니다.
+	 */
+	public Flux<News> fetchNews(NewsCategory category, CrawlWatermark watermark, int maxItems) {
+		int display = Math.min(MAX_DISPLAY, Math.max(1, maxItems));
+		int maxPages = (MAX_START - 1) / display + 1;
+		int pages = Math.min(maxPages, (maxItems + display - 1) / display);
+
+		return Flux.range(0, pages)
+			.concatMap(page -> fetchPage(category, 1 + page * display, display))
+			.takeUntil(items -> items.size() < display || reachedWatermark(items, watermark))
+			.flatMapIterable(items -> items)
+			.takeWhile(news -> watermark == null || !watermark.isSeen(news))
+			.take(maxItems);
+	}
+
+	private Mono<List<News>> fetchPage(NewsCategory category, int start, int display) {
+		return Mono.fromCallable(() -> naverGuard.call(() -> requestPage(category, start, display)).getOrThrow())
+			.subscribeOn(Schedulers.boundedElastic())
+			.doOnNext(items -> log.info("{} 카테고리 네이버 뉴스 조회: start={}, {}건", category.getName(), start, items.size()))
+			.doOnError(e -> log.error("{} 카테고리 네이버 뉴스 조회 중 오류 발생 (start={}): {}",
+				category.getName(), start, e.getMessage()));
+	}
+
+	private List<News> requestPage(NewsCategory category, int start, int display) throws IOException {
+		String query = NaverNewsClient.getSearchQueryForCategory(category);
+		Flux<DataBuffer> body = webClient.get()
+			.uri(uriBuilder -> uriBuilder
+				.queryParam("query", query)
+				.queryParam("display", display)
+				.queryParam("start", start)
+				.queryParam("sort", "date")
+				.build())
+			.retrieve()
+			.bodyToFlux(DataBuffer.class)
+			.timeout(responseTimeout);
+
+		try (InputStream input = DataBufferUtils.subscriberInputStream(body, BODY_PREFETCH)) {
+			return naverNewsParser.parse(input, category);
+		} catch (WebClientResponseException e) {
+			throw new CallFailedException(FailureKind.ofHttpStatus(e.getStatusCode().value()),
+				"네이버 뉴스 API 응답 " + e.getStatusCode(), e);
+		}
+	}
+
+	private boolean reachedWatermark(List<News> items, CrawlWatermark watermark) {
+		return watermark != null && items.stream().anyMatch(watermark::isSeen);
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.news_service.news.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 호스트별로 마지막에 성공한 선택자를 기억합니다.
+ * 같은 언론사 기사는 같은 템플릿을 쓰므로, 기억한 선택자를 먼저 시도하면 대부분 선택자 한 번으로 끝납니다.
+ * 호스트 수는 maxHosts 로 제한하며 가장 오래 쓰지 않은 호스트부터 버립니다.
+ * 우선순위가 rememberable 번째 이후인 선택자(모든 img 처럼 아무 페이지에나 맞는 마지막 대안)는 기억하지 않습니다.
+ */
+public class SelectorMemory {
+
+	private static final String METRIC_PREFIX = "news.scraper.selector";
+
+	private final String[] selectors;
+	private final int rememberable;
+	private final Map<String, Integer> preferredByHost;
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter failures;
+
+	public SelectorMemory(String kind, String[] selectors, int maxHosts, MeterRegistry meterRegistry) {
+		this(kind, selectors, selectors.length, maxHosts, meterRegistry);
+	}
+
+	public SelectorMemory(String kind, String[] selectors, int rememberable, int maxHosts, MeterRegistry meterRegistry) {
+		this.selectors = selectors;
+		this.rememberable = rememberable;
+		this.preferredByHost = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+				return size() > maxHosts;
+			}
+		};
+		this.hits = lookupCounter(kind, "hit", meterRegistry);
+		this.misses = lookupCounter(kind, "miss", meterRegistry);
+		this.failures = lookupCounter(kind, "none", meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".hosts", this, SelectorMemory::size)
+			.tag("kind", kind)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".hit_rate", this, SelectorMemory::hitRate)
+			.tag("kind", kind)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 기억한 선택자를 먼저, 그다음 나머지 선택자를 우선순위대로 시도해 처음으로 null 이 아닌 결과를 반환합니다.
+	 * attempt 는 선택자 인덱스를 받아 추출 결과(없으면 null)를 반환합니다.
+	 */
+	public <T> T firstMatch(String host, IntFunction<T> attempt) {
+		Integer preferred = preferred(host);
+		if (preferred != null) {
+			T result = attempt.apply(preferred);
+			if (result != null) {
+				hits.increment();
+				return result;
+			}
+		}
+
+		for (int i = 0; i < selectors.length; i++) {
+			if (preferred != null && i == preferred) {
+				continue;
+			}
+			T result = attempt.apply(i);
+			if (result != null) {
+				remember(host, i);
+				misses.increment();
+				return result;
+			}
+		}
+
+		failures.increment();
+		return null;
+	}
+
+	public String selector(int index) {
+		return selectors[index];
+	}
+
+	public synchronized int size() {
+		return preferredByHost.size();
+	}
+
+	/**
+	 * 기억한 선택자로 바로 추출에 성공한 비율
+	 */
+	public double hitRate() {
+		double total = hits.count() + misses.count() + failures.count();
+		return total == 0 ? 0 : hits.count() / total;
+	}
+
+	private synchronized Integer preferred(String host) {
+		return host == null ? null : preferredByHost.get(host);
+	}
+
+	private synchronized void remember(String host, int index) {
+		if (host != null && index < rememberable) {
+			preferredByHost.put(host, index);
+		}
+	}
+
+	private Counter lookupCounter(String kind, String result, MeterRegistry meterRegistry) {
+		return Counter.builder(METRIC_PREFIX + ".lookups")
+			.tag("kind", kind)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,240 @@
+package com.example.news_service.news.client;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 페이지를 스트리밍으로 파싱합니다.
+ * 요소가 닫히는 대로 받아 보면서 head(og 메타 태그)와 본문 컨테이너를 모두 찾으면 나머지는 읽지 않고,
+ * 스크립트/스타일처럼 추출에 쓰지 않는 요소는 바로 버립니다. 응답이 maxBytes 를 넘으면 거기까지만 파싱합니다.
+ * 반환하는 Document 는 읽은 데까지의 부분 문서이며, 일찍 멈춘 경우 본문 컨테이너 뒤의 노드는 들어 있지 않습니다.
+ */
+@Slf4j
+public class StreamingHtmlParser {
+
+	private static final String METRIC_PREFIX = "news.scraper.parse";
+	private static final int CHARSET_SNIFF_BYTES = 4096;
+	private static final Set<String> DISCARDED_TAGS = Set.of("script", "style", "noscript", "iframe", "svg", "template");
+
+	private final long maxBytes;
+	private final String contentQuery;
+	private final Counter complete;
+	private final Counter stoppedEarly;
+	private final Counter truncated;
+	private final DistributionSummary bytesRead;
+
+	public StreamingHtmlParser(long maxBytes, String[] contentSelectors, MeterRegistry meterRegistry) {
+		this.maxBytes = maxBytes;
+		this.contentQuery = String.join(", ", contentSelectors);
+		this.complete = resultCounter("complete", meterRegistry);
+		this.stoppedEarly = resultCounter("early_stop", meterRegistry);
+		this.truncated = resultCounter("truncated", meterRegistry);
+		this.bytesRead = DistributionSummary.builder(METRIC_PREFIX + ".bytes")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * body 를 파싱합니다. charset 이 null 이면 앞부분의 BOM/meta 태그로 판단하고, 없으면 UTF-8 로 읽습니다.
+	 */
+	public Document parse(InputStream body, String charset, String baseUri) throws IOException {
+		BoundedInputStream bounded = new BoundedInputStream(body, maxBytes);
+		BufferedInputStream buffered = new BufferedInputStream(bounded, CHARSET_SNIFF_BYTES);
+		Charset decoding = charset != null ? charsetOrDefault(charset) : sniffCharset(buffered);
+
+		try (StreamParser streamer = new StreamParser(Parser.htmlParser())
+			.parse(new InputStreamReader(buffered, decoding), baseUri)) {
+			boolean headDone = false;
+			Element content = null;
+			Iterator<Element> elements = streamer.iterator();
+			while (elements.hasNext()) {
+				Element element = elements.next();
+				String tag = element.normalName();
+				if (DISCARDED_TAGS.contains(tag)) {
+					element.remove();
+				} else if ("head".equals(tag)) {
+					headDone = true;
+				} else if (content == null && element.is(contentQuery) && element.hasText()) {
+					content = element;
+				}
+
+				if (headDone && content != null) {
+					streamer.stop();
+					removeFollowing(content);
+					stoppedEarly.increment();
+					return finish(streamer, bounded);
+				}
+			}
+
+			if (bounded.isTruncated()) {
+				truncated.increment();
+				log.warn("응답이 {}바이트를 넘어 앞부분만 파싱했습니다: {}", maxBytes, baseUri);
+			} else {
+				complete.increment();
+			}
+			return finish(streamer, bounded);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * 파서가 미리 읽어 붙여 둔, 본문 컨테이너 뒤의 노드를 모두 떼어 냅니다.
+	 */
+	private static void removeFollowing(Element content) {
+		for (Element element = content; element.parent() != null; element = element.parent()) {
+			Element parent = element.parent();
+			while (parent.childNodeSize() > element.siblingIndex() + 1) {
+				parent.childNode(element.siblingIndex() + 1).remove();
+			}
+		}
+	}
+
+	private Document finish(StreamParser streamer, BoundedInputStream bounded) {
+		bytesRead.record(bounded.getCount());
+		return streamer.document();
+	}
+
+	/**
+	 * 앞부분에서 BOM 이나 meta charset 선언을 찾습니다.
+	 */
+	static Charset sniffCharset(BufferedInputStream input) throws IOException {
+		input.mark(CHARSET_SNIFF_BYTES);
+		byte[] head = input.readNBytes(CHARSET_SNIFF_BYTES);
+		input.reset();
+
+		if (head.length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+			return StandardCharsets.UTF_8;
+		}
+		String ascii = new String(head, StandardCharsets.ISO_8859_1).toLowerCase(Locale.ROOT);
+		int meta = ascii.indexOf("<meta");
+		while (meta >= 0) {
+			int end = ascii.indexOf('>', meta);
+			if (end < 0) {
+				break;
+			}
+			int declared = ascii.indexOf("charset=", meta);
+			if (declared >= 0 && declared < end) {
+				int start = declared + "charset=".length();
+				while (start < end && (ascii.charAt(start) == '"' || ascii.charAt(start) == '\'')) {
+					start++;
+				}
+				int stop = start;
+				while (stop < end && isCharsetNameChar(ascii.charAt(stop))) {
+					stop++;
+				}
+				return charsetOrDefault(ascii.substring(start, stop));
+			}
+			meta = ascii.indexOf("<meta", end);
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	private static boolean isCharsetNameChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.' || c == ':';
+	}
+
+	private static Charset charsetOrDefault(String name) {
+		try {
+			return Charset.isSupported(name) ? Charset.forName(name) : StandardCharsets.UTF_8;
+		} catch (IllegalCharsetNameException e) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+
+	private Counter resultCounter(String result, MeterRegistry meterRegistry) {
+		return Counter.builder(METRIC_PREFIX + ".pages")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * limit 바이트까지만 읽고 그 뒤는 스트림 끝으로 처리합니다.
+	 */
+	static class BoundedInputStream extends FilterInputStream {
+
+		private final long limit;
+		private long count;
+		private boolean truncated;
+
+		BoundedInputStream(InputStream in, long limit) {
+			super(in);
+			this.limit = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (reachedLimit()) {
+				return -1;
+			}
+			int b = super.read();
+			if (b >= 0) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (reachedLimit()) {
+				return -1;
+			}
+			int read = super.read(b, off, (int) Math.min(len, limit - count));
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, limit - count));
+			count += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		long getCount() {
+			return count;
+		}
+
+		boolean isTruncated() {
+			return truncated;
+		}
+
+		private boolean reachedLimit() throws IOException {
+			if (count < limit) {
+				return false;
+			}
+			// 한도에 딱 맞게 끝난 응답은 잘린 것으로 보지 않음
+			if (!truncated && super.read() >= 0) {
+				truncated = true;
+			}
+			return true;
+		}
+	}
+}
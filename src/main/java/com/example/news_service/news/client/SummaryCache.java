@@ -0,0 +1,143 @@
+package com.example.news_service.news.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.news.domain.ContentHash;
+import com.example.news_service.news.entity.SummaryCacheEntry;
+import com.example.news_service.news.repository.SummaryCacheRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 요약 캐시. 모델, 프롬프트 템플릿, 정규화한 본문이 같으면 GPT 를 다시 호출하지 않고 이전 요약을 돌려줍니다.
+ * 최근에 쓴 요약 max-entries 개는 메모리(LRU)에 두고, 그 밖의 요약은 DB(summary_cache)에서 찾아 메모리로 올립니다.
+ * DB 계층에 문제가 있으면 캐시가 없는 것처럼 동작합니다.
+ */
+@Slf4j
+@Component
+public class SummaryCache {
+
+	private static final String METRIC_PREFIX = "news.summary.cache";
+
+	private final SummaryCacheRepository summaryCacheRepository;
+	private final boolean enabled;
+	private final Map<String, String> recent;
+	private final Counter memoryHits;
+	private final Counter dbHits;
+	private final Counter misses;
+
+	public SummaryCache(SummaryCacheRepository summaryCacheRepository,
+		MeterRegistry meterRegistry,
+		@Value("${openai.summary-cache.enabled:true}") boolean enabled,
+		@Value("${openai.summary-cache.max-entries:2000}") int maxEntries) {
+		this.summaryCacheRepository = summaryCacheRepository;
+		this.enabled = enabled;
+		this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxEntries;
+			}
+		};
+		this.memoryHits = lookupCounter("memory", "hit", meterRegistry);
+		this.dbHits = lookupCounter("db", "hit", meterRegistry);
+		this.misses = lookupCounter("db", "miss", meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".entries", this, SummaryCache::size)
+			.tag("tier", "memory")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".hit_rate", this, SummaryCache::hitRate)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시 키. 공백 차이나 유니코드 정규화 차이만 있는 본문은 같은 키가 됩니다.
+	 */
+	public static String key(String model, PromptTemplate template, String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(model.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+			digest.update(template.text().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+			digest.update(ContentHash.normalize(content).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	public Optional<String> find(String key) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		String cached = recent(key);
+		if (cached != null) {
+			memoryHits.increment();
+			return Optional.of(cached);
+		}
+
+		Optional<String> stored;
+		try {
+			stored = summaryCacheRepository.findById(key).map(SummaryCacheEntry::getSummary);
+		} catch (DataAccessException e) {
+			log.warn("요약 캐시 조회 실패: {}", e.getMessage());
+			stored = Optional.empty();
+		}
+		if (stored.isPresent()) {
+			remember(key, stored.get());
+			dbHits.increment();
+		} else {
+			misses.increment();
+		}
+		return stored;
+	}
+
+	public void put(String key, String model, String summary) {
+		if (!enabled) {
+			return;
+		}
+		remember(key, summary);
+		try {
+			summaryCacheRepository.save(new SummaryCacheEntry(key, model, summary));
+		} catch (DataAccessException e) {
+			log.warn("요약 캐시 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	public synchronized int size() {
+		return recent.size();
+	}
+
+	private synchronized String recent(String key) {
+		return recent.get(key);
+	}
+
+	private synchronized void remember(String key, String summary) {
+		recent.put(key, summary);
+	}
+
+	private double hitRate() {
+		double hits = memoryHits.count() + dbHits.count();
+		double total = hits + misses.count();
+		return total == 0 ? 0 : hits / total;
+	}
+
+	private Counter lookupCounter(String tier, String result, MeterRegistry meterRegistry) {
+		return Counter.builder(METRIC_PREFIX + ".lookups")
+			.tag("tier", tier)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
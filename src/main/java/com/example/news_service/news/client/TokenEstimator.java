@@ -0,0 +1,20 @@
+package com.example.news_service.news.client;
+
+import com.theokanning.openai.utils.TikTokensUtil;
+
+/**
+ * GPT 토큰 수. 요청 전에 분당 토큰 한도(TPM) 예산을 잡고, 긴 본문을 나눌지 정하는 데 씁니다.
+ * openai 라이브러리에 들어 있는 tiktoken 인코딩(jtokkit)으로 GptApiClient 모델 기준 토큰을 로컬에서 셉니다.
+ */
+public final class TokenEstimator {
+
+	private TokenEstimator() {
+	}
+
+	public static int estimate(CharSequence text) {
+		if (text.isEmpty()) {
+			return 0;
+		}
+		return TikTokensUtil.tokens(GptApiClient.MODEL, text.toString());
+	}
+}
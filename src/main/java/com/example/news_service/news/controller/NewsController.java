@@ -1,5 +1,14 @@
 package com.example.news_service.news.controller;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -8,10 +17,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.news_service.common.resilience.CallFailedException;
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.dto.CrawlJobInfo;
 import com.example.news_service.news.dto.NewsListInfo;
 import com.example.news_service.news.dto.NewsReadInfo;
-import com.example.news_service.news.service.NewsCrawlingService;
+import com.example.news_service.news.service.ArchivedArticleReextractor;
+import com.example.news_service.news.service.CrawlJob;
+import com.example.news_service.news.service.CrawlJobService;
+import com.example.news_service.news.service.NewsConverter;
 import com.example.news_service.news.service.NewsService;
 import com.example.news_service.news.service.TestNewsService;
 import com.example.news_service.news.service.NewsAiAnalysisService;
@@ -35,9 +53,14 @@ import lombok.extern.slf4j.Slf4j;
 public class NewsController {
 
 	private final NewsService newsService;
-	private final NewsCrawlingService newsCrawlingService;
+	private final CrawlJobService crawlJobService;
+	private final NewsConverter newsConverter;
 	private final TestNewsService testNewsService;
 	private final NewsAiAnalysisService newsAiAnalysisService;
+	private final ArchivedArticleReextractor archivedArticleReextractor;
+
+	@Value("${news.ai-analysis.stream-timeout:2m}")
+	private Duration analysisStreamTimeout;
 
 	@GetMapping("/{id}")
 	@Operation(summary = "뉴스 상세 조회", description = "ID로 특정 뉴스의 상세 정보를 조회합니다.")
@@ -145,48 +168,71 @@ public class NewsController {
 	}
 
 	@RequestMapping(value = "/crawl", method = {RequestMethod.GET, RequestMethod.POST})
-	@Operation(summary = "뉴스 크롤링", description = "모든 카테고리의 뉴스를 네이버 API에서 크롤링합니다.")
+	@Operation(summary = "뉴스 크롤링", description = "모든 카테고리의 뉴스 크롤링 작업을 등록하고 작업 ID를 반환합니다. 실행 중인 같은 작업이 있으면 그 작업을 반환합니다.")
 	@ApiResponses(value = {
-		@ApiResponse(responseCode = "200", description = "뉴스 크롤링 완료"),
-		@ApiResponse(responseCode = "500", description = "크롤링 중 오류 발생")
+		@ApiResponse(responseCode = "202", description = "크롤링 작업 등록",
+			content = @Content(schema = @Schema(implementation = CrawlJobInfo.CrawlJobResponse.class)))
 	})
-	public ResponseEntity<String> crawlNews() {
+	public ResponseEntity<CrawlJobInfo.CrawlJobResponse> crawlNews() {
 		log.info("뉴스 크롤링 API 호출");
-		try {
-			newsCrawlingService.manualCrawl();
-			return ResponseEntity.ok("뉴스 크롤링이 완료되었습니다.");
-		} catch (Exception e) {
-			log.error("뉴스 크롤링 중 오류 발생: {}", e.getMessage(), e);
-			return ResponseEntity.internalServerError().body("뉴스 크롤링 중 오류가 발생했습니다: " + e.getMessage());
-		}
+		CrawlJob job = crawlJobService.submit(List.of(NewsCategory.values()), 10);
+		return acceptedJob(job);
 	}
 
 	@PostMapping("/crawl/{category}")
-	@Operation(summary = "카테고리별 뉴스 크롤링", description = "특정 카테고리의 뉴스를 네이버 API에서 크롤링합니다.")
+	@Operation(summary = "카테고리별 뉴스 크롤링", description = "특정 카테고리의 뉴스 크롤링 작업을 등록하고 작업 ID를 반환합니다.")
 	@ApiResponses(value = {
-		@ApiResponse(responseCode = "200", description = "카테고리별 뉴스 크롤링 완료"),
-		@ApiResponse(responseCode = "400", description = "잘못된 카테고리"),
-		@ApiResponse(responseCode = "500", description = "크롤링 중 오류 발생")
+		@ApiResponse(responseCode = "202", description = "카테고리별 크롤링 작업 등록",
+			content = @Content(schema = @Schema(implementation = CrawlJobInfo.CrawlJobResponse.class))),
+		@ApiResponse(responseCode = "400", description = "잘못된 카테고리")
 	})
-	public ResponseEntity<String> crawlNewsByCategory(
+	public ResponseEntity<?> crawlNewsByCategory(
 		@Parameter(description = "뉴스 카테고리", example = "SPORTS",
 			schema = @Schema(allowableValues = {"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "WORLD", "TECH", "SPORTS", "ENTERTAINMENT"})) 
 		@PathVariable String category) {
 		log.info("카테고리별 뉴스 크롤링 API 호출: category={}", category);
-		
+
+		NewsCategory newsCategory;
 		try {
-			com.example.news_service.news.domain.NewsCategory newsCategory = 
-				com.example.news_service.news.domain.NewsCategory.valueOf(category.toUpperCase());
-			
-			newsCrawlingService.crawlAndSaveNews(newsCategory, 10);
-			return ResponseEntity.ok(category + " 카테고리 뉴스 크롤링이 완료되었습니다.");
+			newsCategory = NewsCategory.valueOf(category.toUpperCase());
 		} catch (IllegalArgumentException e) {
 			log.warn("잘못된 카테고리: {}", category);
 			return ResponseEntity.badRequest().body("잘못된 카테고리입니다: " + category);
-		} catch (Exception e) {
-			log.error("카테고리별 뉴스 크롤링 중 오류 발생: {}", e.getMessage(), e);
-			return ResponseEntity.internalServerError().body("뉴스 크롤링 중 오류가 발생했습니다: " + e.getMessage());
 		}
+		return acceptedJob(crawlJobService.submit(List.of(newsCategory), 10));
+	}
+
+	@GetMapping("/crawl/jobs/{jobId}")
+	@Operation(summary = "크롤링 작업 조회", description = "크롤링 작업의 상태와 카테고리별 진행 상황, 건수, 소요 시간을 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "크롤링 작업 조회 성공",
+			content = @Content(schema = @Schema(implementation = CrawlJobInfo.CrawlJobResponse.class))),
+		@ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+	})
+	public ResponseEntity<CrawlJobInfo.CrawlJobResponse> getCrawlJob(
+		@Parameter(description = "크롤링 작업 ID") @PathVariable String jobId) {
+		return crawlJobService.findJob(jobId)
+			.map(job -> ResponseEntity.ok(newsConverter.createCrawlJobResponse(job)))
+			.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	@PostMapping("/archive/reextract-images")
+	@Operation(summary = "보관본 이미지 재추출", description = "보관한 원본 HTML 로 저장된 기사의 대표 이미지를 네트워크 요청 없이 다시 추출합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "재추출 작업 시작")
+	})
+	public ResponseEntity<Void> reextractArchivedImages() {
+		log.info("보관본 이미지 재추출 API 호출");
+		archivedArticleReextractor.refreshImageUrlsInBackground();
+		return ResponseEntity.accepted().build();
+	}
+
+	private ResponseEntity<CrawlJobInfo.CrawlJobResponse> acceptedJob(CrawlJob job) {
+		URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+			.path("/api/news/crawl/jobs/{jobId}")
+			.buildAndExpand(job.getId())
+			.toUri();
+		return ResponseEntity.accepted().location(location).body(newsConverter.createCrawlJobResponse(job));
 	}
 
 	@PostMapping("/test-data")
@@ -257,7 +303,8 @@ public class NewsController {
 		@ApiResponse(responseCode = "200", description = "AI 분석 생성 성공"),
 		@ApiResponse(responseCode = "400", description = "잘못된 요청"),
 		@ApiResponse(responseCode = "404", description = "뉴스를 찾을 수 없음"),
-		@ApiResponse(responseCode = "500", description = "서버 오류")
+		@ApiResponse(responseCode = "500", description = "서버 오류"),
+		@ApiResponse(responseCode = "503", description = "AI 서비스 일시 장애")
 	})
 	public ResponseEntity<NewsAiAnalysis> createNewAiAnalysis(
 		@Parameter(description = "뉴스 ID", example = "1") @PathVariable Long newsId,
@@ -277,12 +324,70 @@ public class NewsController {
 		} catch (IllegalArgumentException e) {
 			log.warn("AI 분석 생성 실패: {}", e.getMessage());
 			throw e;
+		} catch (CallFailedException e) {
+			log.warn("AI 분석 생성 실패 ({}): {}", e.getKind(), e.getMessage());
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
 		} catch (Exception e) {
 			log.error("AI 분석 생성 중 오류 발생: {}", e.getMessage(), e);
 			throw e;
 		}
 	}
 
+	@PostMapping(value = "/{newsId}/ai-analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "새로운 AI 분석 스트리밍 생성",
+		description = "GPT 응답을 받는 대로 SSE 로 보냅니다. 응답 조각은 token 이벤트, 저장된 분석 결과는 done 이벤트, 실패 유형은 error 이벤트로 보냅니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "AI 분석 스트림 시작"),
+		@ApiResponse(responseCode = "404", description = "뉴스를 찾을 수 없음"),
+		@ApiResponse(responseCode = "500", description = "서버 오류")
+	})
+	public SseEmitter streamNewAiAnalysis(
+		@Parameter(description = "뉴스 ID", example = "1") @PathVariable Long newsId,
+		@Parameter(description = "사용자 정의 프롬프트 (선택사항)", example = "이 뉴스를 전문가 관점에서 분석해줘")
+		@RequestParam(required = false) String customPrompt) {
+
+		log.info("AI 분석 스트리밍 API 호출: newsId={}, customPrompt={}", newsId, customPrompt);
+
+		// GPT 응답은 스케줄러의 가상 스레드에서 읽으므로 요청 스레드는 바로 반환됨
+		SseEmitter emitter = new SseEmitter(analysisStreamTimeout.toMillis());
+		AtomicBoolean connected = new AtomicBoolean(true);
+		emitter.onCompletion(() -> connected.set(false));
+		emitter.onTimeout(() -> connected.set(false));
+		emitter.onError(e -> connected.set(false));
+
+		newsAiAnalysisService.streamNewAnalysis(newsId, customPrompt, token -> send(emitter, connected, "token", token))
+			.whenComplete((result, error) -> {
+				if (error != null) {
+					log.error("AI 분석 스트리밍 중 오류 발생: {}", error.getMessage(), error);
+					send(emitter, connected, "error", "UNKNOWN");
+				} else if (result instanceof CallResult.Success<NewsAiAnalysis> success) {
+					send(emitter, connected, "done", success.value());
+				} else if (result instanceof CallResult.Failure<NewsAiAnalysis> failure) {
+					log.warn("AI 분석 스트리밍 실패 ({}): {}", failure.kind(), failure.message());
+					send(emitter, connected, "error", failure.kind().name());
+				}
+				if (connected.get()) {
+					emitter.complete();
+				}
+			});
+		return emitter;
+	}
+
+	/**
+	 * 클라이언트가 연결을 끊어도 GPT 응답은 끝까지 받아 저장하고, 이후 이벤트만 보내지 않습니다.
+	 */
+	private void send(SseEmitter emitter, AtomicBoolean connected, String event, Object data) {
+		if (!connected.get()) {
+			return;
+		}
+		try {
+			emitter.send(SseEmitter.event().name(event).data(data));
+		} catch (IOException | IllegalStateException e) {
+			log.debug("AI 분석 스트림 전송 중단: {}", e.getMessage());
+			connected.set(false);
+		}
+	}
+
 	@PostMapping("/{newsId}/update-content")
 	@Operation(summary = "뉴스 내용 업데이트", description = "특정 뉴스의 content를 업데이트합니다.")
 	@ApiResponses(value = {
@@ -0,0 +1,37 @@
+package com.example.news_service.news.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 본문의 고정 길이 해시 (SHA-256, 16진수 64자). 공백 차이나 유니코드 정규화 차이만 있는 본문은 같은 해시가 됩니다.
+ */
+public final class ContentHash {
+
+	public static final int LENGTH = 64;
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private ContentHash() {
+	}
+
+	public static String of(String content) {
+		if (content == null) {
+			return null;
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalize(content).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	public static String normalize(String content) {
+		return WHITESPACE.matcher(Normalizer.normalize(content, Normalizer.Form.NFC)).replaceAll(" ").strip();
+	}
+}
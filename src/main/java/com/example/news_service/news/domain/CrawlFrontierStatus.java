@@ -0,0 +1,8 @@
+package com.example.news_service.news.domain;
+
+public enum CrawlFrontierStatus {
+	PENDING,  // 처리 대기
+	LEASED,   // 노드가 임대해 처리 중
+	DONE,     // 처리 완료
+	FAILED    // 재시도 횟수 초과 또는 영구 실패
+}
@@ -6,14 +6,17 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.example.news_service.common.jpa.TimeOrderedId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -22,7 +25,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+	@Index(name = "idx_news_url_hash", columnList = "url_hash"),
+	@Index(name = "idx_news_category_published_at", columnList = "category, published_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -30,7 +36,7 @@ import lombok.Setter;
 public class News {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeOrderedId
 	private Long id;
 
 	@Column(nullable = false)
@@ -42,6 +48,9 @@ public class News {
 	@Column(nullable = false)
 	private String originalUrl;
 
+	@Column(name = "url_hash", columnDefinition = "CHAR(64)")
+	private String urlHash;
+
 	@Column(nullable = false)
 	private String source;
 
@@ -55,6 +64,18 @@ public class News {
 
 	private String imageUrl;
 
+	/**
+	 * 스크래핑한 원문 본문의 SimHash 지문 (요약 재사용 판단용)
+	 */
+	@Column(name = "content_simhash")
+	private Long contentSimHash;
+
+	/**
+	 * 거의 같은 기사의 요약을 재사용했으면 그 원본 기사의 URL 해시
+	 */
+	@Column(name = "duplicate_of_url_hash", columnDefinition = "CHAR(64)")
+	private String duplicateOfUrlHash;
+
 	@Column(nullable = false)
 	private LocalDateTime publishedAt;
 
@@ -72,6 +93,7 @@ public class News {
 		this.title = title;
 		this.content = content;
 		this.originalUrl = originalUrl;
+		this.urlHash = UrlHash.of(originalUrl);
 		this.source = source;
 		this.category = category;
 		this.status = status;
@@ -79,6 +101,12 @@ public class News {
 		this.publishedAt = publishedAt;
 	}
 
+	@PrePersist
+	@PreUpdate
+	public void syncUrlHash() {
+		this.urlHash = UrlHash.of(originalUrl);
+	}
+
 	public void updateStatus(NewsStatus status) {
 		this.status = status;
 	}
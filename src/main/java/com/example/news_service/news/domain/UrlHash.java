@@ -0,0 +1,35 @@
+package com.example.news_service.news.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 뉴스 원문 URL의 고정 길이 해시 (SHA-256, 16진수 64자)
+ */
+public final class UrlHash {
+
+	public static final int LENGTH = 64;
+
+	private UrlHash() {
+	}
+
+	public static String of(String url) {
+		if (url == null) {
+			return null;
+		}
+		return HexFormat.of().formatHex(digest(url.trim()));
+	}
+
+	/**
+	 * URL의 SHA-256 원본 바이트를 반환합니다.
+	 */
+	public static byte[] digest(String url) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.news_service.news.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class CrawlJobInfo {
+
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Getter
+	public static class CrawlJobResponse {
+		private String jobId;
+		private String status;
+		private int savedCount;
+		private LocalDateTime submittedAt;
+		private LocalDateTime startedAt;
+		private LocalDateTime finishedAt;
+		private Long elapsedMillis;
+		private String error;
+		private List<CategoryProgressResponse> categories;
+	}
+
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Getter
+	public static class CategoryProgressResponse {
+		private String category;
+		private String categoryName;
+		private String status;
+		private int fetchedCount;
+		private int savedCount;
+		private LocalDateTime startedAt;
+		private LocalDateTime finishedAt;
+		private Long elapsedMillis;
+		private String error;
+	}
+}
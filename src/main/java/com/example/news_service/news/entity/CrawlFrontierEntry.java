@@ -0,0 +1,102 @@
+package com.example.news_service.news.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.example.news_service.common.jpa.TimeOrderedId;
+import com.example.news_service.news.domain.CrawlFrontierStatus;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.domain.NewsStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 노드가 나눠 처리하는 크롤링 대기열(frontier)의 기사 한 건.
+ * 노드는 임대(lease)를 잡은 기사만 처리하며, 임대가 만료되면 다른 노드가 다시 가져갑니다.
+ */
+@Entity
+@Table(name = "crawl_frontier",
+	uniqueConstraints = @UniqueConstraint(name = "uk_crawl_frontier_url_hash", columnNames = "url_hash"),
+	indexes = @Index(name = "idx_crawl_frontier_status_lease", columnList = "status, lease_expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class CrawlFrontierEntry {
+
+	@Id
+	@TimeOrderedId
+	private Long id;
+
+	@Column(name = "url_hash", columnDefinition = "CHAR(64)", nullable = false)
+	private String urlHash;
+
+	@Column(nullable = false)
+	private String originalUrl;
+
+	@Column(nullable = false)
+	private String title;
+
+	@Column(nullable = false)
+	private String source;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 32, nullable = false)
+	private NewsCategory category;
+
+	private LocalDateTime publishedAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 16, nullable = false)
+	private CrawlFrontierStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "lease_owner", length = 128)
+	private String leaseOwner;
+
+	@Column(name = "lease_expires_at")
+	private LocalDateTime leaseExpiresAt;
+
+	@Column(length = 500)
+	private String lastError;
+
+	@CreatedDate
+	@Column(updatable = false, nullable = false)
+	private LocalDateTime createdAt;
+
+	public CrawlFrontierEntry(News news) {
+		this.urlHash = news.getUrlHash();
+		this.originalUrl = news.getOriginalUrl();
+		this.title = news.getTitle();
+		this.source = news.getSource();
+		this.category = news.getCategory();
+		this.publishedAt = news.getPublishedAt();
+		this.status = CrawlFrontierStatus.PENDING;
+	}
+
+	public News toNews() {
+		return News.builder()
+			.title(title)
+			.originalUrl(originalUrl)
+			.source(source)
+			.category(category)
+			.status(NewsStatus.ACTIVE)
+			.publishedAt(publishedAt)
+			.build();
+	}
+}
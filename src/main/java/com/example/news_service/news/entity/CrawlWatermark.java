@@ -0,0 +1,72 @@
+package com.example.news_service.news.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리별 크롤링 high-water mark. 지금까지 본 가장 최근 기사의 발행 시각과 URL 해시를 저장합니다.
+ */
+@Entity
+@Table(name = "crawl_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class CrawlWatermark {
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 32)
+	private NewsCategory category;
+
+	@Column(nullable = false)
+	private LocalDateTime newestPublishedAt;
+
+	@Column(columnDefinition = "CHAR(64)", nullable = false)
+	private String newestUrlHash;
+
+	@LastModifiedDate
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	public CrawlWatermark(NewsCategory category, News newest) {
+		this.category = category;
+		this.newestPublishedAt = newest.getPublishedAt();
+		this.newestUrlHash = newest.getUrlHash();
+	}
+
+	/**
+	 * 이미 본 기사인지 확인합니다. 최신순 결과에서 처음으로 true 가 되는 지점부터는 모두 이전에 처리한 기사입니다.
+	 * 발행 시각이 같고 URL이 다른 기사는 새 기사로 취급하고 URL 중복 체크에 맡깁니다.
+	 */
+	public boolean isSeen(News news) {
+		return newestUrlHash.equals(news.getUrlHash()) || news.getPublishedAt().isBefore(newestPublishedAt);
+	}
+
+	/**
+	 * 더 최근 기사라면 워터마크를 옮깁니다.
+	 */
+	public boolean advance(News newest) {
+		if (!newest.getPublishedAt().isAfter(newestPublishedAt)) {
+			return false;
+		}
+		this.newestPublishedAt = newest.getPublishedAt();
+		this.newestUrlHash = newest.getUrlHash();
+		return true;
+	}
+}
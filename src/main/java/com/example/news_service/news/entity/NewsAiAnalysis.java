@@ -10,6 +10,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+import com.example.news_service.common.jpa.CompressedTextConverter;
+import com.example.news_service.common.jpa.TimeOrderedId;
 import com.example.news_service.news.domain.News;
 
 @Entity
@@ -20,12 +22,19 @@ import com.example.news_service.news.domain.News;
 public class NewsAiAnalysis {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @Column(name = "ai_request", columnDefinition = "TEXT", nullable = false)
+    // 프롬프트 전체(템플릿 + 기사 본문) 대신 템플릿 id 와 본문 해시만 저장
+    @Embedded
+    private PromptReference prompt;
+
+    // 이전 형식의 프롬프트 전체 컬럼. 기존 DB 는 NOT NULL 이므로 새 행은 빈 문자열로 채움
+    @Getter(AccessLevel.NONE)
+    @Column(name = "ai_request", columnDefinition = "TEXT")
     private String aiRequest;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "ai_response", columnDefinition = "TEXT", nullable = false)
     private String aiResponse;
 
@@ -38,9 +47,10 @@ public class NewsAiAnalysis {
     private News news;
 
     @Builder
-    private NewsAiAnalysis(News news, String aiRequest, String aiResponse) {
+    private NewsAiAnalysis(News news, PromptReference prompt, String aiResponse) {
         this.news = news;
-        this.aiRequest = aiRequest;
+        this.prompt = prompt;
+        this.aiRequest = "";
         this.aiResponse = aiResponse;
     }
 } 
\ No newline at end of file
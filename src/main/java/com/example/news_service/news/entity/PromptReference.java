@@ -0,0 +1,28 @@
+package com.example.news_service.news.entity;
+
+import com.example.news_service.common.jpa.CompressedTextConverter;
+import com.example.news_service.news.domain.ContentHash;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+
+/**
+ * AI 분석에 쓴 프롬프트. 프롬프트 전체 대신 템플릿 id, 사용자 지시문(사용자 정의 프롬프트일 때만), 본문 해시만 저장합니다.
+ */
+@Embeddable
+public record PromptReference(
+	@Column(name = "prompt_template_id", length = 40)
+	String templateId,
+
+	@Convert(converter = CompressedTextConverter.class)
+	@Column(name = "custom_prompt", columnDefinition = "TEXT")
+	String customPrompt,
+
+	@Column(name = "content_hash", columnDefinition = "CHAR(64)")
+	String contentHash) {
+
+	public static PromptReference of(String templateId, String customPrompt, String content) {
+		return new PromptReference(templateId, customPrompt, ContentHash.of(content));
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.news_service.news.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.example.news_service.common.jpa.CompressedTextConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * GPT 요약 캐시의 DB 계층. 키는 모델, 프롬프트 템플릿, 정규화한 본문의 SHA-256 입니다.
+ */
+@Entity
+@Table(name = "summary_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class SummaryCacheEntry {
+
+	@Id
+	@Column(name = "cache_key", columnDefinition = "CHAR(64)")
+	private String cacheKey;
+
+	@Column(nullable = false, length = 64)
+	private String model;
+
+	@Convert(converter = CompressedTextConverter.class)
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String summary;
+
+	@CreatedDate
+	@Column(name = "created_at", updatable = false, nullable = false)
+	private LocalDateTime createdAt;
+
+	public SummaryCacheEntry(String cacheKey, String model, String summary) {
+		this.cacheKey = cacheKey;
+		this.model = model;
+		this.summary = summary;
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.news_service.news.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.news_service.news.domain.CrawlFrontierStatus;
+import com.example.news_service.news.entity.CrawlFrontierEntry;
+
+/**
+ * 임대 만료 판단은 노드 간 시계 차이를 피하려고 DB 시각(NOW(6))을 기준으로 합니다.
+ */
+@Repository
+public interface CrawlFrontierRepository extends JpaRepository<CrawlFrontierEntry, Long> {
+
+	@Query("SELECT e.urlHash FROM CrawlFrontierEntry e WHERE e.urlHash IN :urlHashes")
+	List<String> findExistingUrlHashes(@Param("urlHashes") Collection<String> urlHashes);
+
+	/**
+	 * 대기 중이거나 임대가 만료된 기사를 잠급니다. 다른 노드가 잠근 행은 기다리지 않고 건너뜁니다.
+	 * 반드시 트랜잭션 안에서 호출해야 하며, 잠금은 커밋할 때까지 유지됩니다.
+	 */
+	@Query(value = """
+		SELECT * FROM crawl_frontier
+		WHERE (status = 'PENDING' OR (status = 'LEASED' AND lease_expires_at < NOW(6)))
+		  AND attempts < :maxAttempts
+		ORDER BY id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<CrawlFrontierEntry> lockClaimable(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+	/**
+	 * 잠근 기사를 owner 가 지금부터 leaseMillis 동안 처리하도록 임대하고 시도 횟수를 올립니다.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query(value = """
+		UPDATE crawl_frontier
+		SET status = 'LEASED', lease_owner = :owner, attempts = attempts + 1,
+		    lease_expires_at = DATE_ADD(NOW(6), INTERVAL :leaseMillis * 1000 MICROSECOND)
+		WHERE id IN :ids
+		""", nativeQuery = true)
+	int lease(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("leaseMillis") long leaseMillis);
+
+	List<CrawlFrontierEntry> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+	/**
+	 * 임대한 노드가 아직 임대를 가지고 있을 때만 처리 결과를 기록합니다.
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE crawl_frontier
+		SET status = :status, lease_owner = NULL, lease_expires_at = NULL, last_error = :error
+		WHERE id = :id AND lease_owner = :owner AND status = 'LEASED' AND lease_expires_at > NOW(6)
+		""", nativeQuery = true)
+	int finishLease(@Param("id") Long id, @Param("owner") String owner, @Param("status") String status,
+		@Param("error") String error);
+
+	/**
+	 * 재시도 횟수를 다 쓰고 임대도 만료된 기사를 실패로 정리합니다.
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE crawl_frontier
+		SET status = 'FAILED', lease_owner = NULL
+		WHERE status = 'LEASED' AND lease_expires_at < NOW(6) AND attempts >= :maxAttempts
+		""", nativeQuery = true)
+	int failExhausted(@Param("maxAttempts") int maxAttempts);
+
+	long countByStatus(CrawlFrontierStatus status);
+}
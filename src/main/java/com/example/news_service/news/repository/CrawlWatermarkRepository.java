@@ -0,0 +1,11 @@
+package com.example.news_service.news.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.entity.CrawlWatermark;
+
+@Repository
+public interface CrawlWatermarkRepository extends JpaRepository<CrawlWatermark, NewsCategory> {
+}
@@ -3,8 +3,12 @@ package com.example.news_service.news.repository;
 import com.example.news_service.news.entity.NewsAiAnalysis;
 import com.example.news_service.news.domain.News;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +24,55 @@ public interface NewsAiAnalysisRepository extends JpaRepository<NewsAiAnalysis,
      * 특정 뉴스의 모든 AI 분석 히스토리를 조회 (최신순)
      */
     List<NewsAiAnalysis> findByNewsOrderByCreatedAtDesc(News news);
+
+    /**
+     * 같은 템플릿과 본문으로 특정 시각 이후에 만든 AI 분석 결과를 조회 (최신순)
+     */
+    @Query("""
+        SELECT a FROM NewsAiAnalysis a
+        WHERE a.news = :news AND a.prompt.templateId = :templateId AND a.prompt.contentHash = :contentHash
+          AND a.createdAt > :since
+        ORDER BY a.createdAt DESC
+        """)
+    List<NewsAiAnalysis> findRecentByPrompt(@Param("news") News news, @Param("templateId") String templateId,
+        @Param("contentHash") String contentHash, @Param("since") LocalDateTime since);
     
     /**
      * 특정 뉴스의 AI 분석 결과가 존재하는지 확인
      */
     boolean existsByNews(News news);
+
+    /**
+     * 템플릿 참조 없이 프롬프트 전체(ai_request)만 있는 이전 형식의 AI 분석을 조회
+     */
+    @Query(value = """
+        SELECT id, ai_request AS aiRequest, ai_response AS aiResponse
+        FROM news_ai_analysis
+        WHERE prompt_template_id IS NULL
+        LIMIT 200
+        """, nativeQuery = true)
+    List<LegacyAnalysis> findLegacyBatch();
+
+    /**
+     * 이전 형식의 AI 분석을 템플릿 참조와 압축한 응답으로 바꾸고 ai_request 를 비웁니다.
+     * 기존 DB 의 ai_request 는 NOT NULL 이므로 NULL 대신 빈 문자열로 비웁니다.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE news_ai_analysis
+        SET prompt_template_id = :templateId, custom_prompt = :customPrompt, content_hash = :contentHash,
+            ai_response = :aiResponse, ai_request = ''
+        WHERE id = :id
+        """, nativeQuery = true)
+    int compact(@Param("id") Long id, @Param("templateId") String templateId, @Param("customPrompt") String customPrompt,
+        @Param("contentHash") String contentHash, @Param("aiResponse") String aiResponse);
+
+    interface LegacyAnalysis {
+
+        Long getId();
+
+        String getAiRequest();
+
+        String getAiResponse();
+    }
 } 
\ No newline at end of file
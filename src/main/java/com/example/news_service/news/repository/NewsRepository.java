@@ -1,11 +1,16 @@
 package com.example.news_service.news.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +18,8 @@ import com.example.news_service.news.domain.News;
 import com.example.news_service.news.domain.NewsCategory;
 import com.example.news_service.news.domain.NewsStatus;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
 	
@@ -61,7 +68,42 @@ public interface NewsRepository extends JpaRepository<News, Long> {
 	 * URL 중복 체크
 	 */
 	boolean existsByOriginalUrl(String originalUrl);
+
+	/**
+	 * URL 해시 목록 중 이미 저장된 해시만 조회 (한 번의 쿼리로 중복 체크)
+	 */
+	@Query("SELECT n.urlHash FROM News n WHERE n.urlHash IN :urlHashes")
+	List<String> findExistingUrlHashes(@Param("urlHashes") Collection<String> urlHashes);
+
+	/**
+	 * URL 해시 목록에 해당하는 뉴스 조회
+	 */
+	List<News> findByUrlHashIn(Collection<String> urlHashes);
+
+	Optional<News> findFirstByUrlHash(String urlHash);
+
+	/**
+	 * 근접 중복 색인을 채울 최근 원본 기사 조회 (요약을 재사용한 기사 제외)
+	 */
+	List<News> findByContentSimHashIsNotNullAndDuplicateOfUrlHashIsNull(Pageable pageable);
+
+	/**
+	 * URL 해시가 채워지지 않은 기존 뉴스 조회
+	 */
+	List<News> findTop500ByUrlHashIsNull();
+
+	/**
+	 * 저장된 모든 원문 URL을 스트리밍으로 조회 (MySQL 행 단위 스트리밍, 트랜잭션 안에서 사용 후 close 필요)
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+	@Query("SELECT n.originalUrl FROM News n")
+	Stream<String> streamAllOriginalUrls();
 	
+	/**
+	 * 카테고리별 가장 최근에 발행된 뉴스 조회
+	 */
+	Optional<News> findTopByCategoryOrderByPublishedAtDesc(NewsCategory category);
+
 	/**
 	 * 카테고리별 뉴스 개수 조회
 	 */
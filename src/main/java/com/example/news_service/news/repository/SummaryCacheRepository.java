@@ -0,0 +1,10 @@
+package com.example.news_service.news.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.news_service.news.entity.SummaryCacheEntry;
+
+@Repository
+public interface SummaryCacheRepository extends JpaRepository<SummaryCacheEntry, String> {
+}
@@ -0,0 +1,129 @@
+package com.example.news_service.news.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.news_service.common.archive.ArchivedEntry;
+import com.example.news_service.news.client.ArticleExtraction;
+import com.example.news_service.news.client.NewsScraper;
+import com.example.news_service.news.client.RawHtmlArchive;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.repository.NewsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관한 원본 HTML 로 저장된 기사를 다시 추출합니다.
+ * 선택자를 개선한 뒤 네트워크 요청 없이 디스크 순서대로 보관본을 읽어 기존 기사에 반영합니다.
+ */
+@Slf4j
+@Service
+public class ArchivedArticleReextractor {
+
+	private final RawHtmlArchive rawHtmlArchive;
+	private final NewsScraper newsScraper;
+	private final NewsRepository newsRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ExecutorService crawlExecutor;
+	private final int batchSize;
+
+	public ArchivedArticleReextractor(RawHtmlArchive rawHtmlArchive,
+		NewsScraper newsScraper,
+		NewsRepository newsRepository,
+		TransactionTemplate transactionTemplate,
+		ExecutorService crawlExecutor,
+		@Value("${news.archive.reextract.batch-size:500}") int batchSize) {
+		this.rawHtmlArchive = rawHtmlArchive;
+		this.newsScraper = newsScraper;
+		this.newsRepository = newsRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.crawlExecutor = crawlExecutor;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 이미지 재추출을 백그라운드에서 실행합니다.
+	 */
+	public void refreshImageUrlsInBackground() {
+		crawlExecutor.execute(() -> {
+			try {
+				refreshImageUrls();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("보관본 이미지 재추출이 중단되었습니다.");
+			} catch (Exception e) {
+				log.error("보관본 이미지 재추출 중 오류 발생: {}", e.getMessage(), e);
+			}
+		});
+	}
+
+	/**
+	 * 보관본에서 대표 이미지를 다시 추출해 달라진 기사의 이미지 URL 을 갱신하고, 갱신한 기사 수를 반환합니다.
+	 */
+	public int refreshImageUrls() throws InterruptedException {
+		if (!rawHtmlArchive.isEnabled()) {
+			log.warn("HTML 보관소가 꺼져 있어 다시 추출할 수 없습니다.");
+			return 0;
+		}
+
+		long startedAt = System.currentTimeMillis();
+		List<ArchivedEntry> entries = rawHtmlArchive.entries();
+		int updated = 0;
+		for (int from = 0; from < entries.size(); from += batchSize) {
+			Map<String, ArticleExtraction> extractions = extract(entries.subList(from, Math.min(from + batchSize, entries.size())));
+			if (extractions.isEmpty()) {
+				continue;
+			}
+			updated += transactionTemplate.execute(status -> {
+				int changed = 0;
+				for (News news : newsRepository.findByUrlHashIn(extractions.keySet())) {
+					String imageUrl = extractions.get(news.getUrlHash()).getImageUrl();
+					if (imageUrl != null && !imageUrl.equals(news.getImageUrl())) {
+						news.setImageUrl(imageUrl);
+						changed++;
+					}
+				}
+				return changed;
+			});
+		}
+
+		log.info("보관본 이미지 재추출 완료: {}개 페이지 중 {}개 갱신, {}ms",
+			entries.size(), updated, System.currentTimeMillis() - startedAt);
+		return updated;
+	}
+
+	/**
+	 * 보관본을 동시에 파싱해 URL 해시별 추출 결과를 반환합니다.
+	 */
+	private Map<String, ArticleExtraction> extract(List<ArchivedEntry> batch) throws InterruptedException {
+		List<Callable<ArticleExtraction>> tasks = new ArrayList<>(batch.size());
+		for (ArchivedEntry entry : batch) {
+			tasks.add(() -> newsScraper.extractArchivedArticle(rawHtmlArchive.load(entry)));
+		}
+
+		Map<String, ArticleExtraction> extractions = new HashMap<>();
+		List<Future<ArticleExtraction>> futures = crawlExecutor.invokeAll(tasks);
+		for (int i = 0; i < futures.size(); i++) {
+			try {
+				ArticleExtraction extraction = futures.get(i).get();
+				if (extraction != null) {
+					extractions.put(HexFormat.of().formatHex(batch.get(i).key()), extraction);
+				}
+			} catch (ExecutionException e) {
+				log.warn("보관본 추출 실패: {} - {}", batch.get(i).source(), e.getCause().getMessage());
+			}
+		}
+		return extractions;
+	}
+}
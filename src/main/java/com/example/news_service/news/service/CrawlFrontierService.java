@@ -0,0 +1,141 @@
+package com.example.news_service.news.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.news_service.common.util.NodeIdentity;
+import com.example.news_service.news.domain.CrawlFrontierStatus;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.entity.CrawlFrontierEntry;
+import com.example.news_service.news.repository.CrawlFrontierRepository;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 테이블 기반 크롤링 대기열. 여러 노드가 SELECT ... FOR UPDATE SKIP LOCKED 로 서로 다른 기사를 임대해 처리하며,
+ * 노드가 죽어 임대가 만료된 기사는 다른 노드가 다시 가져갑니다.
+ */
+@Slf4j
+@Service
+public class CrawlFrontierService {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final CrawlFrontierRepository crawlFrontierRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration leaseDuration;
+	private final int maxAttempts;
+	@Getter
+	private final String nodeId;
+
+	public CrawlFrontierService(CrawlFrontierRepository crawlFrontierRepository,
+		TransactionTemplate transactionTemplate,
+		@Value("${news.crawl.frontier.lease-duration:5m}") Duration leaseDuration,
+		@Value("${news.crawl.frontier.max-attempts:3}") int maxAttempts,
+		@Value("${news.crawl.frontier.node-id:}") String nodeId) {
+		this.crawlFrontierRepository = crawlFrontierRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.leaseDuration = leaseDuration;
+		this.maxAttempts = maxAttempts;
+		this.nodeId = NodeIdentity.resolve(nodeId);
+	}
+
+	/**
+	 * 기사를 대기열에 등록하고 새로 등록한 건수를 반환합니다. 이미 등록된 URL은 건너뜁니다.
+	 */
+	public int enqueue(List<News> newsList) {
+		Map<String, News> byUrlHash = new LinkedHashMap<>();
+		newsList.forEach(news -> byUrlHash.putIfAbsent(news.getUrlHash(), news));
+		if (byUrlHash.isEmpty()) {
+			return 0;
+		}
+		crawlFrontierRepository.findExistingUrlHashes(byUrlHash.keySet()).forEach(byUrlHash::remove);
+		if (byUrlHash.isEmpty()) {
+			return 0;
+		}
+
+		List<News> pending = new ArrayList<>(byUrlHash.values());
+		try {
+			transactionTemplate.executeWithoutResult(status ->
+				crawlFrontierRepository.saveAll(pending.stream().map(CrawlFrontierEntry::new).toList()));
+			return pending.size();
+		} catch (DataIntegrityViolationException e) {
+			// 다른 노드가 같은 기사를 동시에 등록한 경우: 한 건씩 등록하며 중복은 건너뜀
+			int enqueued = 0;
+			for (News news : pending) {
+				try {
+					transactionTemplate.executeWithoutResult(status ->
+						crawlFrontierRepository.save(new CrawlFrontierEntry(news)));
+					enqueued++;
+				} catch (DataIntegrityViolationException duplicate) {
+					log.debug("이미 대기열에 있는 기사: {}", news.getOriginalUrl());
+				}
+			}
+			return enqueued;
+		}
+	}
+
+	/**
+	 * 처리할 기사를 최대 limit 건 임대합니다. 재시도 횟수를 다 쓴 만료 임대는 실패로 정리합니다.
+	 * 임대 시각과 만료 시각은 DB 시각으로 정합니다.
+	 */
+	public List<CrawlFrontierEntry> claim(int limit) {
+		return transactionTemplate.execute(status -> {
+			int exhausted = crawlFrontierRepository.failExhausted(maxAttempts);
+			if (exhausted > 0) {
+				log.warn("재시도 횟수를 초과한 대기열 기사 {}건을 실패 처리했습니다.", exhausted);
+			}
+
+			List<Long> ids = crawlFrontierRepository.lockClaimable(maxAttempts, limit).stream()
+				.map(CrawlFrontierEntry::getId)
+				.toList();
+			if (ids.isEmpty()) {
+				return List.of();
+			}
+			crawlFrontierRepository.lease(ids, nodeId, leaseDuration.toMillis());
+			return crawlFrontierRepository.findByIdInOrderByIdAsc(ids);
+		});
+	}
+
+	/**
+	 * 처리 완료를 기록합니다. 임대가 만료되었거나 다른 노드로 넘어갔으면 false 를 반환합니다.
+	 */
+	public boolean complete(CrawlFrontierEntry entry) {
+		return finish(entry, CrawlFrontierStatus.DONE, null);
+	}
+
+	/**
+	 * 처리 실패를 기록합니다. 재시도 횟수가 남아 있으면 다시 대기 상태로 돌립니다.
+	 */
+	public boolean fail(CrawlFrontierEntry entry, String error) {
+		CrawlFrontierStatus next = entry.getAttempts() >= maxAttempts ? CrawlFrontierStatus.FAILED : CrawlFrontierStatus.PENDING;
+		return finish(entry, next, error);
+	}
+
+	/**
+	 * 다시 시도해도 소용없는 실패(404, 빈 본문 등)를 기록합니다. 재시도 횟수와 관계없이 바로 실패 처리합니다.
+	 */
+	public boolean failPermanently(CrawlFrontierEntry entry, String error) {
+		return finish(entry, CrawlFrontierStatus.FAILED, error);
+	}
+
+	private boolean finish(CrawlFrontierEntry entry, CrawlFrontierStatus status, String error) {
+		String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+		Integer updated = transactionTemplate.execute(tx ->
+			crawlFrontierRepository.finishLease(entry.getId(), nodeId, status.name(), truncated));
+		if (updated == null || updated == 0) {
+			log.warn("임대가 만료되어 처리 결과를 기록하지 못했습니다: {}", entry.getOriginalUrl());
+			return false;
+		}
+		return true;
+	}
+}
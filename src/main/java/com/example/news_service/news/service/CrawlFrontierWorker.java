@@ -0,0 +1,135 @@
+package com.example.news_service.news.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.entity.CrawlFrontierEntry;
+import com.example.news_service.news.repository.NewsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링 대기열에서 기사를 임대해 스크래핑/요약/저장합니다. 모든 노드에서 실행되며 노드 수만큼 처리량이 늘어납니다.
+ * 임대 시간은 기사 한 묶음을 처리하는 시간보다 길게 잡아야 합니다.
+ */
+@Slf4j
+@Component
+public class CrawlFrontierWorker {
+
+	private final CrawlFrontierService crawlFrontierService;
+	private final NewsRepository newsRepository;
+	private final NewsArticleProcessor newsArticleProcessor;
+	private final CrawledNewsWriter crawledNewsWriter;
+	private final ExecutorService crawlExecutor;
+
+	@Value("${news.crawl.frontier.enabled:false}")
+	private boolean enabled;
+
+	@Value("${news.crawl.frontier.claim-size:16}")
+	private int claimSize;
+
+	public CrawlFrontierWorker(CrawlFrontierService crawlFrontierService,
+		NewsRepository newsRepository,
+		NewsArticleProcessor newsArticleProcessor,
+		CrawledNewsWriter crawledNewsWriter,
+		ExecutorService crawlExecutor) {
+		this.crawlFrontierService = crawlFrontierService;
+		this.newsRepository = newsRepository;
+		this.newsArticleProcessor = newsArticleProcessor;
+		this.crawledNewsWriter = crawledNewsWriter;
+		this.crawlExecutor = crawlExecutor;
+	}
+
+	@Scheduled(fixedDelayString = "${news.crawl.frontier.poll-interval-ms:5000}")
+	public void poll() {
+		if (!enabled) {
+			return;
+		}
+		List<CrawlFrontierEntry> entries = crawlFrontierService.claim(claimSize);
+		while (!entries.isEmpty() && !Thread.currentThread().isInterrupted()) {
+			process(entries);
+			entries = crawlFrontierService.claim(claimSize);
+		}
+	}
+
+	/**
+	 * 임대한 기사를 동시에 스크래핑/요약하고, 결과를 한 번에 저장한 뒤 완료를 기록합니다.
+	 */
+	private void process(List<CrawlFrontierEntry> entries) {
+		log.info("[{}] 대기열 기사 {}건 처리 시작", crawlFrontierService.getNodeId(), entries.size());
+
+		// 이전 임대에서 저장까지 끝내고 완료 기록 전에 중단된 기사는 다시 처리하지 않음
+		List<String> alreadySaved = newsRepository.findExistingUrlHashes(
+			entries.stream().map(CrawlFrontierEntry::getUrlHash).toList());
+
+		Map<String, CrawlFrontierEntry> byUrlHash = new HashMap<>();
+		List<Callable<CrawledArticle>> tasks = new ArrayList<>();
+		for (CrawlFrontierEntry entry : entries) {
+			if (alreadySaved.contains(entry.getUrlHash())) {
+				crawlFrontierService.complete(entry);
+				continue;
+			}
+			byUrlHash.put(entry.getUrlHash(), entry);
+			tasks.add(() -> crawl(entry));
+		}
+
+		List<CrawledArticle> crawled = new ArrayList<>();
+		try {
+			for (Future<CrawledArticle> future : crawlExecutor.invokeAll(tasks)) {
+				CrawledArticle article = future.get();
+				if (article != null) {
+					crawled.add(article);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return; // 임대가 만료되면 다른 노드가 처리
+		} catch (ExecutionException e) {
+			log.error("대기열 기사 처리 중 오류 발생: {}", e.getMessage(), e);
+		}
+
+		for (News saved : crawledNewsWriter.saveAll(crawled)) {
+			crawlFrontierService.complete(byUrlHash.remove(saved.getUrlHash()));
+		}
+		crawled.stream()
+			.map(article -> byUrlHash.remove(article.news().getUrlHash()))
+			.filter(entry -> entry != null)
+			.forEach(entry -> crawlFrontierService.fail(entry, "저장 실패"));
+	}
+
+	/**
+	 * 기사 한 건을 스크래핑/요약합니다. 실패하면 실패 유형을 기록하고 null 을 반환합니다.
+	 * 영구적인 실패는 다시 대기열에 넣지 않고 바로 실패 처리합니다.
+	 */
+	private CrawledArticle crawl(CrawlFrontierEntry entry) {
+		try {
+			CallResult<CrawledArticle> result = newsArticleProcessor.scrape(entry.toNews())
+				.flatMap(newsArticleProcessor::summarize);
+			if (result instanceof CallResult.Failure<CrawledArticle> failure) {
+				String error = failure.kind() + ": " + failure.message();
+				if (failure.kind().isPermanent()) {
+					crawlFrontierService.failPermanently(entry, error);
+				} else {
+					crawlFrontierService.fail(entry, error);
+				}
+				return null;
+			}
+			return result.getOrThrow();
+		} catch (Exception e) {
+			crawlFrontierService.fail(entry, e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.example.news_service.news.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.news_service.news.domain.NewsCategory;
+
+import lombok.Getter;
+
+/**
+ * 백그라운드로 실행되는 크롤링 작업과 카테고리별 진행 상황
+ */
+@Getter
+public class CrawlJob implements CrawlProgressListener {
+
+	public enum Status {
+		QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+	}
+
+	private final String id = UUID.randomUUID().toString();
+	private final List<NewsCategory> categories;
+	private final int display;
+	private final LocalDateTime submittedAt = LocalDateTime.now();
+	private final Map<NewsCategory, CategoryProgress> progress;
+
+	private volatile Status status = Status.QUEUED;
+	private volatile LocalDateTime startedAt;
+	private volatile LocalDateTime finishedAt;
+	private volatile String error;
+
+	public CrawlJob(List<NewsCategory> categories, int display) {
+		this.categories = List.copyOf(categories);
+		this.display = display;
+		Map<NewsCategory, CategoryProgress> progress = new EnumMap<>(NewsCategory.class);
+		categories.forEach(category -> progress.put(category, new CategoryProgress()));
+		this.progress = Collections.unmodifiableMap(progress);
+	}
+
+	/**
+	 * 같은 카테고리 목록과 조회 건수로 들어온 요청은 같은 작업으로 합칩니다.
+	 */
+	public static String coalescingKey(List<NewsCategory> categories, int display) {
+		return categories.stream().sorted().distinct().toList() + ":" + display;
+	}
+
+	public boolean isActive() {
+		return status == Status.QUEUED || status == Status.RUNNING;
+	}
+
+	public int getSavedCount() {
+		return progress.values().stream().mapToInt(CategoryProgress::getSaved).sum();
+	}
+
+	void started() {
+		startedAt = LocalDateTime.now();
+		status = Status.RUNNING;
+	}
+
+	void completed() {
+		finishedAt = LocalDateTime.now();
+		status = Status.COMPLETED;
+	}
+
+	void failed(Exception e) {
+		error = e.getMessage();
+		finishedAt = LocalDateTime.now();
+		status = Status.FAILED;
+	}
+
+	@Override
+	public void categoryStarted(NewsCategory category) {
+		CategoryProgress categoryProgress = progress.get(category);
+		categoryProgress.startedAt = LocalDateTime.now();
+		categoryProgress.status = Status.RUNNING;
+	}
+
+	@Override
+	public void articlesFetched(NewsCategory category, int count) {
+		progress.get(category).fetched.addAndGet(count);
+	}
+
+	@Override
+	public void articleSaved(NewsCategory category) {
+		progress.get(category).saved.incrementAndGet();
+	}
+
+	@Override
+	public void categoryFinished(NewsCategory category) {
+		CategoryProgress categoryProgress = progress.get(category);
+		if (categoryProgress.status != Status.FAILED) {
+			categoryProgress.finishedAt = LocalDateTime.now();
+			categoryProgress.status = Status.COMPLETED;
+		}
+	}
+
+	@Override
+	public void categoryFailed(NewsCategory category, Exception e) {
+		CategoryProgress categoryProgress = progress.get(category);
+		categoryProgress.error = e.getMessage();
+		categoryProgress.finishedAt = LocalDateTime.now();
+		categoryProgress.status = Status.FAILED;
+	}
+
+	@Override
+	public void categoryCancelled(NewsCategory category) {
+		CategoryProgress categoryProgress = progress.get(category);
+		if (categoryProgress.status != Status.FAILED) {
+			categoryProgress.finishedAt = LocalDateTime.now();
+			categoryProgress.status = Status.CANCELLED;
+		}
+	}
+
+	@Getter
+	public static class CategoryProgress {
+		private volatile Status status = Status.QUEUED;
+		private volatile LocalDateTime startedAt;
+		private volatile LocalDateTime finishedAt;
+		private volatile String error;
+		private final AtomicInteger fetched = new AtomicInteger();
+		private final AtomicInteger saved = new AtomicInteger();
+
+		public int getFetched() {
+			return fetched.get();
+		}
+
+		public int getSaved() {
+			return saved.get();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.news_service.news.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.news_service.news.domain.NewsCategory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링을 백그라운드 작업으로 실행하고 작업 ID로 진행 상황을 조회합니다.
+ * 같은 요청이 실행 중인 작업과 겹치면 새 작업을 만들지 않고 기존 작업을 돌려줍니다.
+ */
+@Slf4j
+@Service
+public class CrawlJobService {
+
+	private final NewsCrawlingService newsCrawlingService;
+	private final ExecutorService crawlExecutor;
+	private final Map<String, CrawlJob> activeJobs = new ConcurrentHashMap<>();
+	private final Map<String, CrawlJob> jobs;
+
+	public CrawlJobService(NewsCrawlingService newsCrawlingService,
+		ExecutorService crawlExecutor,
+		@Value("${news.crawl.jobs.retained:100}") int retainedJobs) {
+		this.newsCrawlingService = newsCrawlingService;
+		this.crawlExecutor = crawlExecutor;
+		this.jobs = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CrawlJob> eldest) {
+				return size() > retainedJobs && !eldest.getValue().isActive();
+			}
+		};
+	}
+
+	/**
+	 * 크롤링 작업을 등록합니다. 같은 카테고리 목록과 조회 건수의 작업이 이미 대기/실행 중이면 그 작업을 반환합니다.
+	 */
+	public CrawlJob submit(List<NewsCategory> categories, int display) {
+		String key = CrawlJob.coalescingKey(categories, display);
+		CrawlJob candidate = new CrawlJob(categories, display);
+		CrawlJob job = activeJobs.computeIfAbsent(key, k -> candidate);
+		if (job != candidate) {
+			log.info("실행 중인 크롤링 작업에 합류: {}", job.getId());
+			return job;
+		}
+
+		synchronized (jobs) {
+			jobs.put(job.getId(), job);
+		}
+		crawlExecutor.execute(() -> run(key, job));
+		log.info("크롤링 작업 등록: {} ({})", job.getId(), key);
+		return job;
+	}
+
+	public Optional<CrawlJob> findJob(String id) {
+		synchronized (jobs) {
+			return Optional.ofNullable(jobs.get(id));
+		}
+	}
+
+	private void run(String key, CrawlJob job) {
+		job.started();
+		try {
+			newsCrawlingService.crawlCategories(job.getCategories(), job.getDisplay(), job);
+			job.completed();
+			log.info("크롤링 작업 완료: {} ({}개 저장)", job.getId(), job.getSavedCount());
+		} catch (Exception e) {
+			job.failed(e);
+			log.error("크롤링 작업 실패: {}", job.getId(), e);
+		} finally {
+			activeJobs.remove(key, job);
+		}
+	}
+}
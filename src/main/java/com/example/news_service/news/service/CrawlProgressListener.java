@@ -0,0 +1,40 @@
+package com.example.news_service.news.service;
+
+import com.example.news_service.news.domain.NewsCategory;
+
+/**
+ * 크롤링 진행 상황을 카테고리 단위로 전달받습니다. 파이프라인에서는 여러 스레드가 동시에 호출합니다.
+ */
+public interface CrawlProgressListener {
+
+	CrawlProgressListener NONE = new CrawlProgressListener() {
+	};
+
+	default void categoryStarted(NewsCategory category) {
+	}
+
+	default void articlesFetched(NewsCategory category, int count) {
+	}
+
+	default void articleSaved(NewsCategory category) {
+	}
+
+	default void categoryFinished(NewsCategory category) {
+	}
+
+	default void categoryFailed(NewsCategory category, Exception e) {
+	}
+
+	/**
+	 * 취소되어 크롤링하지 않은 카테고리
+	 */
+	default void categoryCancelled(NewsCategory category) {
+	}
+
+	/**
+	 * true 를 반환하면 아직 시작하지 않은 카테고리는 건너뜁니다. 카테고리를 시작하기 전마다 호출됩니다.
+	 */
+	default boolean isCancelled() {
+		return false;
+	}
+}
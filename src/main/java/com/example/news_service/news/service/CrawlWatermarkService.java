@@ -0,0 +1,103 @@
+package com.example.news_service.news.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.entity.CrawlWatermark;
+import com.example.news_service.news.repository.CrawlWatermarkRepository;
+import com.example.news_service.news.repository.NewsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리별 크롤링 워터마크를 관리합니다. 워터마크 이전 기사는 다시 스크래핑하지 않으므로
+ * 자주 크롤링해도 새로 발행된 기사 수에 비례한 만큼만 작업합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlWatermarkService {
+
+	private final CrawlWatermarkRepository crawlWatermarkRepository;
+	private final NewsRepository newsRepository;
+
+	@Value("${news.crawl.incremental.enabled:true}")
+	private boolean incrementalEnabled;
+
+	/**
+	 * 증분 크롤링이 꺼져 있거나 워터마크가 없으면 빈 값을 반환합니다.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<CrawlWatermark> find(NewsCategory category) {
+		if (!incrementalEnabled) {
+			return Optional.empty();
+		}
+		return crawlWatermarkRepository.findById(category);
+	}
+
+	/**
+	 * 이번 크롤링에서 끝까지 처리한 기사까지만 워터마크를 옮깁니다.
+	 * 아직 저장하지 못한 기사(unfinishedUrlHashes)가 있으면 그중 가장 오래된 기사보다 늦지 않은 기사까지만 옮겨
+	 * 다음 크롤링에서 그 기사를 다시 가져오게 합니다. 이미 저장된 기사는 URL 중복 체크에서 걸러집니다.
+	 */
+	@Transactional
+	public void advance(NewsCategory category, List<News> fetched, Set<String> unfinishedUrlHashes) {
+		Optional<LocalDateTime> oldestUnfinished = fetched.stream()
+			.filter(news -> news.getPublishedAt() != null && unfinishedUrlHashes.contains(news.getUrlHash()))
+			.map(News::getPublishedAt)
+			.min(Comparator.naturalOrder());
+		advance(category, fetched.stream()
+			.filter(news -> !unfinishedUrlHashes.contains(news.getUrlHash()))
+			.filter(news -> oldestUnfinished.isEmpty() || news.getPublishedAt() != null
+				&& !news.getPublishedAt().isAfter(oldestUnfinished.get()))
+			.toList());
+	}
+
+	/**
+	 * 이번 크롤링에서 본 기사 중 가장 최근 기사로 워터마크를 옮깁니다.
+	 * 본 기사가 모두 저장되어 있을 때(크롤링 대기열에 등록한 경우 등)만 사용합니다.
+	 */
+	@Transactional
+	public void advance(NewsCategory category, List<News> fetched) {
+		Optional<News> newest = fetched.stream()
+			.filter(news -> news.getPublishedAt() != null)
+			.max(Comparator.comparing(News::getPublishedAt));
+		if (newest.isEmpty()) {
+			return;
+		}
+
+		Optional<CrawlWatermark> watermark = crawlWatermarkRepository.findById(category);
+		if (watermark.isEmpty()) {
+			crawlWatermarkRepository.save(new CrawlWatermark(category, newest.get()));
+		} else if (watermark.get().advance(newest.get())) {
+			log.info("{} 카테고리 워터마크 갱신: {}", category.getName(), newest.get().getPublishedAt());
+		}
+	}
+
+	/**
+	 * 워터마크가 없는 카테고리는 저장된 가장 최근 기사로 초기화합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void seedFromStoredNews() {
+		for (NewsCategory category : NewsCategory.values()) {
+			if (crawlWatermarkRepository.existsById(category)) {
+				continue;
+			}
+			newsRepository.findTopByCategoryOrderByPublishedAtDesc(category)
+				.ifPresent(news -> crawlWatermarkRepository.save(new CrawlWatermark(category, news)));
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.news_service.news.service;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.entity.PromptReference;
+
+/**
+ * 스크래핑과 요약이 끝나 저장 대기 중인 기사
+ */
+public record CrawledArticle(News news, PromptReference prompt, String aiResponse) {
+
+	/**
+	 * 거의 같은 기사의 요약을 재사용했으면 true. 이 경우 AI 분석 이력은 원본 기사의 것을 사용합니다.
+	 */
+	public boolean reusedSummary() {
+		return news.getDuplicateOfUrlHash() != null;
+	}
+}
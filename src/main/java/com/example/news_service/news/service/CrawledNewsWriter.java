@@ -0,0 +1,100 @@
+package com.example.news_service.news.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.entity.NewsAiAnalysis;
+import com.example.news_service.news.repository.NewsAiAnalysisRepository;
+import com.example.news_service.news.repository.NewsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링한 기사를 짧은 쓰기 트랜잭션으로 저장합니다. 네트워크 작업은 트랜잭션 밖에서 끝낸 뒤 호출해야 합니다.
+ * ID를 INSERT 전에 채우므로 여러 기사를 저장하면 Hibernate 가 INSERT 를 JDBC 배치로 묶습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawledNewsWriter {
+
+	private final NewsRepository newsRepository;
+	private final NewsAiAnalysisRepository newsAiAnalysisRepository;
+	private final NewsUrlDeduplicator newsUrlDeduplicator;
+	private final NearDuplicateDetector nearDuplicateDetector;
+	private final TransactionTemplate transactionTemplate;
+
+	public News save(CrawledArticle article) {
+		return saveAll(List.of(article)).get(0);
+	}
+
+	/**
+	 * 여러 기사를 한 트랜잭션으로 저장합니다.
+	 * 배치 저장이 실패하면 기사마다 따로 저장해 문제가 된 기사만 건너뜁니다.
+	 * URL 필터는 커밋이 끝난 기사만 등록하고, 요약할 때 등록한 유사 기사 지문은 저장하지 못한 기사만 뺍니다.
+	 */
+	public List<News> saveAll(List<CrawledArticle> articles) {
+		if (articles.isEmpty()) {
+			return List.of();
+		}
+		try {
+			List<News> savedNews = transactionTemplate.execute(status -> insertAll(articles));
+			savedNews.forEach(newsUrlDeduplicator::markSaved);
+			return savedNews;
+		} catch (RuntimeException e) {
+			if (articles.size() == 1) {
+				unregisterFingerprint(articles.get(0));
+				throw e;
+			}
+			log.warn("기사 {}건 일괄 저장 실패, 기사별로 다시 저장합니다: {}", articles.size(), e.getMessage());
+			return saveOneByOne(articles);
+		}
+	}
+
+	/**
+	 * 저장하지 못한 기사의 요약을 이후 기사가 재사용하지 않도록 지문을 뺍니다.
+	 */
+	private void unregisterFingerprint(CrawledArticle article) {
+		News news = article.news();
+		if (!article.reusedSummary() && news.getContentSimHash() != null) {
+			nearDuplicateDetector.unregister(news.getContentSimHash(), news.getUrlHash(), article.aiResponse());
+		}
+	}
+
+	private List<News> saveOneByOne(List<CrawledArticle> articles) {
+		List<News> savedNews = new ArrayList<>();
+		for (CrawledArticle article : articles) {
+			article.news().setId(null); // 롤백된 배치에서 채워진 ID 제거
+			try {
+				savedNews.addAll(saveAll(List.of(article)));
+			} catch (RuntimeException e) {
+				log.error("기사 저장 실패: {}", article.news().getOriginalUrl(), e);
+			}
+		}
+		return savedNews;
+	}
+
+	private List<News> insertAll(List<CrawledArticle> articles) {
+		List<News> savedNews = new ArrayList<>(articles.size());
+		List<NewsAiAnalysis> analyses = new ArrayList<>(articles.size());
+		for (CrawledArticle article : articles) {
+			News news = newsRepository.save(article.news());
+			savedNews.add(news);
+			if (article.reusedSummary()) {
+				continue;
+			}
+			analyses.add(NewsAiAnalysis.builder()
+				.news(news)
+				.prompt(article.prompt())
+				.aiResponse(article.aiResponse())
+				.build());
+		}
+		newsAiAnalysisRepository.saveAll(analyses);
+		return savedNews;
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.news_service.news.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.example.news_service.common.pipeline.StageHandler;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+
+/**
+ * 파이프라인 저장 단계에서 카테고리마다 네이버 조회 결과 순서대로 기사를 저장합니다.
+ * 중복 제거 단계에서 기사마다 카테고리별 번호를 매기고(register), 앞 번호 기사가 모두 도착했거나
+ * 탈락한(skip) 기사만 batchSize 개씩 모아 저장합니다. 앞 기사를 기다리는 동안 뒤 기사는 메모리에 모아 둡니다.
+ * 저장 워커가 여러 개여도 배치는 꺼낸 순서대로 하나씩 저장합니다.
+ */
+class InOrderPersistHandler implements StageHandler<CrawledArticle, Void> {
+
+	private final int batchSize;
+	private final Consumer<List<CrawledArticle>> writer;
+	private final Object writeLock = new Object();
+	private final Map<NewsCategory, Lane> lanes = new EnumMap<>(NewsCategory.class);
+	private final Map<String, Long> sequences = new HashMap<>();
+	private final List<CrawledArticle> ready = new ArrayList<>();
+
+	InOrderPersistHandler(int batchSize, Consumer<List<CrawledArticle>> writer) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다: " + batchSize);
+		}
+		this.batchSize = batchSize;
+		this.writer = writer;
+	}
+
+	/**
+	 * 중복 제거를 통과한 순서대로 카테고리별 번호를 매깁니다.
+	 */
+	synchronized void register(News news) {
+		Lane lane = lanes.computeIfAbsent(news.getCategory(), category -> new Lane());
+		sequences.put(news.getUrlHash(), lane.nextSequence++);
+	}
+
+	/**
+	 * 스크래핑/요약에 실패해 저장하지 않을 기사. 뒤 기사가 이 기사를 기다리지 않게 번호를 비웁니다.
+	 */
+	synchronized void skip(News news) {
+		complete(news, Optional.empty());
+	}
+
+	@Override
+	public void handle(CrawledArticle article, Emitter<Void> emitter) {
+		synchronized (writeLock) {
+			List<CrawledArticle> batch = arrive(article);
+			if (!batch.isEmpty()) {
+				writer.accept(batch);
+			}
+		}
+	}
+
+	/**
+	 * 입력이 끝나면 남은 기사를 카테고리별 번호 순서대로 모두 저장합니다. 예외로 빠진 번호는 건너뜁니다.
+	 */
+	@Override
+	public void finish(Emitter<Void> emitter) {
+		synchronized (writeLock) {
+			List<CrawledArticle> batch = drain();
+			if (!batch.isEmpty()) {
+				writer.accept(batch);
+			}
+		}
+	}
+
+	private synchronized List<CrawledArticle> arrive(CrawledArticle article) {
+		complete(article.news(), Optional.of(article));
+		return ready.size() >= batchSize ? takeReady() : List.of();
+	}
+
+	private synchronized List<CrawledArticle> drain() {
+		for (Lane lane : lanes.values()) {
+			lane.completed.values().forEach(article -> article.ifPresent(ready::add));
+			lane.completed.clear();
+		}
+		return takeReady();
+	}
+
+	private void complete(News news, Optional<CrawledArticle> article) {
+		Long sequence = sequences.remove(news.getUrlHash());
+		if (sequence == null) {
+			article.ifPresent(ready::add); // 번호가 없는 기사는 기다리지 않음
+			return;
+		}
+		Lane lane = lanes.get(news.getCategory());
+		lane.completed.put(sequence, article);
+		while (lane.completed.containsKey(lane.released)) {
+			lane.completed.remove(lane.released++).ifPresent(ready::add);
+		}
+	}
+
+	private List<CrawledArticle> takeReady() {
+		List<CrawledArticle> batch = new ArrayList<>(ready);
+		ready.clear();
+		return batch;
+	}
+
+	private static class Lane {
+		private long nextSequence;
+		private long released;
+		private final TreeMap<Long, Optional<CrawledArticle>> completed = new TreeMap<>();
+	}
+}
@@ -0,0 +1,112 @@
+package com.example.news_service.news.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.util.SimHash;
+import com.example.news_service.common.util.SimHashIndex;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.repository.NewsRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스크래핑한 본문의 SimHash 로 이미 요약한 기사와 거의 같은 기사(여러 언론사가 실은 같은 통신사 기사 등)를 찾습니다.
+ * 최근 요약한 기사 news.dedup.near.max-entries 개를 메모리 색인에 두며, 시작할 때 DB 에서 채웁니다.
+ * 같은 크롤링에서 뒤따르는 사본도 요약을 재사용하도록 요약이 나오는 즉시 등록하고, 저장에 실패하면 뺍니다.
+ */
+@Slf4j
+@Component
+public class NearDuplicateDetector {
+
+	private static final String METRIC_PREFIX = "news.dedup.near";
+
+	private final NewsRepository newsRepository;
+	private final SimHashIndex<Summarized> index;
+	private final boolean enabled;
+	private final int minContentLength;
+	private final Counter hits;
+	private final Counter misses;
+
+	public NearDuplicateDetector(NewsRepository newsRepository,
+		MeterRegistry meterRegistry,
+		@Value("${news.dedup.near.enabled:true}") boolean enabled,
+		@Value("${news.dedup.near.max-distance:6}") int maxDistance,
+		@Value("${news.dedup.near.max-entries:5000}") int maxEntries,
+		@Value("${news.dedup.near.min-content-length:300}") int minContentLength) {
+		this.newsRepository = newsRepository;
+		this.index = new SimHashIndex<>(maxDistance, maxEntries);
+		this.enabled = enabled;
+		this.minContentLength = minContentLength;
+		this.hits = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "miss").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".entries", index, SimHashIndex::size).register(meterRegistry);
+	}
+
+	/**
+	 * 본문의 SimHash 지문. 꺼져 있거나 본문이 너무 짧아 비교하기 어려우면 비어 있습니다.
+	 */
+	public OptionalLong fingerprint(String content) {
+		if (!enabled || content == null || content.length() < minContentLength) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(SimHash.of(content));
+	}
+
+	/**
+	 * 지문이 가장 가까운, 이미 요약한 기사를 찾습니다.
+	 */
+	public Optional<Summarized> findNearest(long fingerprint) {
+		Optional<Summarized> nearest = index.findNearest(fingerprint).map(SimHashIndex.Match::value);
+		(nearest.isPresent() ? hits : misses).increment();
+		return nearest;
+	}
+
+	/**
+	 * 요약을 마친 기사를 색인에 등록합니다.
+	 */
+	public void register(long fingerprint, String urlHash, String summary) {
+		index.put(fingerprint, new Summarized(urlHash, summary));
+	}
+
+	/**
+	 * 저장하지 못한 기사를 색인에서 뺍니다.
+	 */
+	public void unregister(long fingerprint, String urlHash, String summary) {
+		index.remove(fingerprint, new Summarized(urlHash, summary));
+	}
+
+	/**
+	 * 최근에 요약한 원본 기사로 색인을 채웁니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+		PageRequest recent = PageRequest.of(0, index.capacity(), Sort.by(Sort.Direction.DESC, "id"));
+		List<News> newsList = newsRepository.findByContentSimHashIsNotNullAndDuplicateOfUrlHashIsNull(recent);
+		for (int i = newsList.size() - 1; i >= 0; i--) {
+			News news = newsList.get(i);
+			register(news.getContentSimHash(), news.getUrlHash(), news.getContent());
+		}
+		log.info("근접 중복 색인 준비 완료: {}개", index.size());
+	}
+
+	/**
+	 * 요약을 재사용할 수 있는 기존 기사
+	 */
+	public record Summarized(String urlHash, String summary) {
+	}
+}
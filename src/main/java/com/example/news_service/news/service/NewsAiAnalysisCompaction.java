@@ -0,0 +1,86 @@
+package com.example.news_service.news.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.news_service.common.jpa.CompressedTextConverter;
+import com.example.news_service.news.client.PromptTemplate;
+import com.example.news_service.news.entity.PromptReference;
+import com.example.news_service.news.repository.NewsAiAnalysisRepository;
+import com.example.news_service.news.repository.NewsAiAnalysisRepository.LegacyAnalysis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프롬프트 전체(ai_request)를 저장하던 이전 형식의 AI 분석을 템플릿 참조와 압축한 응답으로 바꿉니다.
+ * 변환한 행과 새로 저장한 행의 ai_request 는 빈 문자열이므로 기존 스키마를 바꾸지 않아도 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsAiAnalysisCompaction {
+
+	// 이전 사용자 정의 프롬프트는 지시문 뒤에 "\n\n"(역슬래시 문자 그대로)과 본문을 붙였음
+	private static final String LEGACY_CUSTOM_SEPARATOR = "\\n\\n";
+
+	private final NewsAiAnalysisRepository newsAiAnalysisRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final CompressedTextConverter compressedTextConverter = new CompressedTextConverter();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void compact() {
+		int total = 0;
+		int updated;
+		try {
+			do {
+				updated = transactionTemplate.execute(status -> {
+					List<LegacyAnalysis> batch = newsAiAnalysisRepository.findLegacyBatch();
+					batch.forEach(this::compact);
+					return batch.size();
+				});
+				total += updated;
+			} while (updated > 0);
+		} catch (DataAccessException e) {
+			log.info("이전 형식 AI 분석 압축을 건너뜁니다: {}", e.getMostSpecificCause().getMessage());
+		}
+
+		if (total > 0) {
+			log.info("이전 형식 AI 분석 압축 완료: {}개", total);
+		}
+	}
+
+	private void compact(LegacyAnalysis analysis) {
+		PromptReference prompt = parseLegacyRequest(analysis.getAiRequest());
+		newsAiAnalysisRepository.compact(analysis.getId(), prompt.templateId(),
+			compressedTextConverter.convertToDatabaseColumn(prompt.customPrompt()), prompt.contentHash(),
+			compressedTextConverter.convertToDatabaseColumn(analysis.getAiResponse()));
+	}
+
+	/**
+	 * 저장된 프롬프트 전체에서 템플릿과 본문을 나눕니다. 기본 템플릿이 아니면 사용자 정의 프롬프트로 봅니다.
+	 */
+	static PromptReference parseLegacyRequest(String aiRequest) {
+		String template = PromptTemplate.NEWS_SUMMARY.text();
+		int slot = template.indexOf("%s");
+		String prefix = template.substring(0, slot);
+		String suffix = template.substring(slot + 2);
+		if (aiRequest.length() >= prefix.length() + suffix.length()
+			&& aiRequest.startsWith(prefix) && aiRequest.endsWith(suffix)) {
+			String content = aiRequest.substring(prefix.length(), aiRequest.length() - suffix.length());
+			return PromptReference.of(PromptTemplate.NEWS_SUMMARY.id(), null, content);
+		}
+
+		int separator = aiRequest.indexOf(LEGACY_CUSTOM_SEPARATOR);
+		if (separator < 0) {
+			return PromptReference.of(PromptTemplate.CUSTOM_ID, aiRequest, "");
+		}
+		return PromptReference.of(PromptTemplate.CUSTOM_ID, aiRequest.substring(0, separator),
+			aiRequest.substring(separator + LEGACY_CUSTOM_SEPARATOR.length()));
+	}
+}
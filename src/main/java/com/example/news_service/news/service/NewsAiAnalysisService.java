@@ -1,52 +1,72 @@
 package com.example.news_service.news.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.example.news_service.news.client.GptApiClient;
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.news.client.GptRequestScheduler;
+import com.example.news_service.news.client.PromptTemplate;
 import com.example.news_service.news.domain.News;
 import com.example.news_service.news.entity.NewsAiAnalysis;
+import com.example.news_service.news.entity.PromptReference;
 import com.example.news_service.news.repository.NewsAiAnalysisRepository;
 import com.example.news_service.news.repository.NewsRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class NewsAiAnalysisService {
 
 	private final NewsAiAnalysisRepository newsAiAnalysisRepository;
 	private final NewsRepository newsRepository;
-	private final GptApiClient gptApiClient;
-
-	private static final String DEFAULT_AI_PROMPT_TEMPLATE = """
-		You are a friendly and witty news editor, like 'Newneek'. Your task is to summarize the following news article.
-		- Start with a catchy, questioning title.
-		- Use markdown for formatting.
-		- Use bullet points (•) and bold text to break down the key events or points chronologically or by importance.
-		- The tone should be easy to understand, engaging, and conversational for a young adult audience.
-		- Explain the background and why this news is important.
-		- Ensure the output is in Korean.
-
-		---
-		[News Article]
-		%s
-		""";
+	private final GptRequestScheduler gptRequestScheduler;
+	private final Duration freshnessWindow;
+	private final Map<AnalysisKey, CompletableFuture<NewsAiAnalysis>> inFlight = new ConcurrentHashMap<>();
+	private final Counter freshReused;
+	private final Counter inFlightJoined;
+
+	public NewsAiAnalysisService(NewsAiAnalysisRepository newsAiAnalysisRepository,
+		NewsRepository newsRepository,
+		GptRequestScheduler gptRequestScheduler,
+		MeterRegistry meterRegistry,
+		@Value("${news.ai-analysis.freshness-window:5m}") Duration freshnessWindow) {
+		this.newsAiAnalysisRepository = newsAiAnalysisRepository;
+		this.newsRepository = newsRepository;
+		this.gptRequestScheduler = gptRequestScheduler;
+		this.freshnessWindow = freshnessWindow;
+		this.freshReused = reusedCounter("fresh", meterRegistry);
+		this.inFlightJoined = reusedCounter("in_flight", meterRegistry);
+	}
 
 	/**
 	 * 특정 뉴스의 최신 AI 분석 결과를 조회
+	 * 거의 같은 기사의 요약을 재사용한 뉴스는 자체 분석이 없으면 원본 기사의 분석을 반환합니다.
 	 */
 	public Optional<NewsAiAnalysis> getLatestAnalysis(Long newsId) {
 		Optional<News> news = newsRepository.findById(newsId);
 		if (news.isEmpty()) {
 			return Optional.empty();
 		}
-		return newsAiAnalysisRepository.findTopByNewsOrderByCreatedAtDesc(news.get());
+		Optional<NewsAiAnalysis> analysis = newsAiAnalysisRepository.findTopByNewsOrderByCreatedAtDesc(news.get());
+		String duplicateOf = news.get().getDuplicateOfUrlHash();
+		if (analysis.isPresent() || duplicateOf == null) {
+			return analysis;
+		}
+		return newsRepository.findFirstByUrlHash(duplicateOf)
+			.flatMap(newsAiAnalysisRepository::findTopByNewsOrderByCreatedAtDesc);
 	}
 
 	/**
@@ -62,45 +82,142 @@ public class NewsAiAnalysisService {
 
 	/**
 	 * 특정 뉴스에 대해 새로운 AI 분석을 생성
+	 * 같은 뉴스/프롬프트로 freshness-window 안에 만든 분석이 있으면 GPT 를 호출하지 않고 그 분석을 반환하고,
+	 * 같은 요청이 이미 진행 중이면 새로 요청하지 않고 그 결과를 함께 기다립니다.
+	 * 요청을 맡은 뒤에도 한 번 더 최근 분석을 찾아, 직전 요청이 막 저장한 분석이 있으면 GPT 를 다시 호출하지 않습니다.
+	 * GPT 호출에 실패하면 오류 문구를 분석 결과로 저장하지 않고 CallFailedException 을 던집니다.
+	 * GPT 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 저장만 따로 커밋합니다.
 	 */
-	@Transactional
 	public NewsAiAnalysis createNewAnalysis(Long newsId, String customPrompt) {
-		Optional<News> newsOpt = newsRepository.findById(newsId);
-		if (newsOpt.isEmpty()) {
-			throw new IllegalArgumentException("뉴스를 찾을 수 없습니다: " + newsId);
+		News news = findNewsWithContent(newsId);
+		String content = news.getContent();
+		PromptTemplate template = templateOf(customPrompt);
+		PromptReference prompt = promptOf(template, customPrompt, content);
+
+		Optional<NewsAiAnalysis> fresh = findFresh(news, prompt);
+		if (fresh.isPresent()) {
+			freshReused.increment();
+			return fresh.get();
 		}
 
-		News news = newsOpt.get();
+		AnalysisKey key = new AnalysisKey(newsId, prompt);
+		CompletableFuture<NewsAiAnalysis> created = new CompletableFuture<>();
+		CompletableFuture<NewsAiAnalysis> pending = inFlight.putIfAbsent(key, created);
+		if (pending != null) {
+			inFlightJoined.increment();
+			log.info("진행 중인 AI 분석 결과를 함께 기다립니다: newsId={}", newsId);
+			return await(pending);
+		}
+
+		try {
+			// 처음 확인한 뒤 요청을 맡기 전에 직전 요청이 끝났을 수 있음
+			Optional<NewsAiAnalysis> justSaved = findFresh(news, prompt);
+			if (justSaved.isPresent()) {
+				freshReused.increment();
+				created.complete(justSaved.get());
+				return justSaved.get();
+			}
+
+			// 사용자가 기다리는 요청이므로 크롤링 요약보다 먼저 보냄
+			String aiResponse = gptRequestScheduler.summarize(template, content, GptRequestScheduler.Priority.INTERACTIVE)
+				.join()
+				.getOrThrow();
+			NewsAiAnalysis analysis = saveAnalysis(news, prompt, aiResponse);
+			created.complete(analysis);
+			return analysis;
+		} catch (RuntimeException | Error e) {
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, created);
+		}
+	}
+
+	/**
+	 * 새로운 AI 분석을 스트리밍으로 생성
+	 * 호출한 스레드는 GPT 응답을 기다리지 않고, 받은 조각은 onToken 으로 넘깁니다.
+	 * 스트림이 끝나면 전체 응답을 분석 결과로 저장하고, 실패하면 저장하지 않고 실패 결과로 완료됩니다.
+	 */
+	public CompletableFuture<CallResult<NewsAiAnalysis>> streamNewAnalysis(Long newsId, String customPrompt,
+		Consumer<String> onToken) {
+		News news = findNewsWithContent(newsId);
 		String content = news.getContent();
-		
-		if (content == null || content.isBlank()) {
+		PromptTemplate template = templateOf(customPrompt);
+		PromptReference prompt = promptOf(template, customPrompt, content);
+
+		return gptRequestScheduler.stream(template, content, GptRequestScheduler.Priority.INTERACTIVE, onToken)
+			.thenApply(result -> result.map(aiResponse -> saveAnalysis(news, prompt, aiResponse)));
+	}
+
+	/**
+	 * 특정 뉴스에 대해 기본 프롬프트로 새로운 AI 분석을 생성
+	 */
+	public NewsAiAnalysis createDefaultAnalysis(Long newsId) {
+		return createNewAnalysis(newsId, null);
+	}
+
+	private News findNewsWithContent(Long newsId) {
+		News news = newsRepository.findById(newsId)
+			.orElseThrow(() -> new IllegalArgumentException("뉴스를 찾을 수 없습니다: " + newsId));
+		if (news.getContent() == null || news.getContent().isBlank()) {
 			throw new IllegalStateException("뉴스 본문이 없습니다: " + newsId);
 		}
+		return news;
+	}
 
-		// 기본 프롬프트 또는 사용자 정의 프롬프트 사용
-		String prompt;
-		if (customPrompt != null && !customPrompt.isBlank()) {
-			prompt = customPrompt + "\\n\\n" + content;
-		} else {
-			prompt = String.format(DEFAULT_AI_PROMPT_TEMPLATE, content);
+	private Optional<NewsAiAnalysis> findFresh(News news, PromptReference prompt) {
+		if (freshnessWindow.isZero() || freshnessWindow.isNegative()) {
+			return Optional.empty();
 		}
+		LocalDateTime since = LocalDateTime.now().minus(freshnessWindow);
+		return newsAiAnalysisRepository.findRecentByPrompt(news, prompt.templateId(), prompt.contentHash(), since).stream()
+			.filter(analysis -> prompt.equals(analysis.getPrompt()))
+			.findFirst();
+	}
 
-		String aiResponse = gptApiClient.summarizeText(prompt);
+	// 진행 중인 요청이 던진 예외를 그대로 다시 던짐 (CallFailedException 은 컨트롤러에서 503 으로 변환)
+	private static NewsAiAnalysis await(CompletableFuture<NewsAiAnalysis> pending) {
+		try {
+			return pending.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
 
+	// 기본 프롬프트 또는 사용자 정의 프롬프트 사용
+	private PromptTemplate templateOf(String customPrompt) {
+		return customPrompt != null && !customPrompt.isBlank()
+			? PromptTemplate.custom(customPrompt)
+			: PromptTemplate.NEWS_SUMMARY;
+	}
+
+	private static PromptReference promptOf(PromptTemplate template, String customPrompt, String content) {
+		String instructions = PromptTemplate.CUSTOM_ID.equals(template.id()) ? customPrompt : null;
+		return PromptReference.of(template.id(), instructions, content);
+	}
+
+	private NewsAiAnalysis saveAnalysis(News news, PromptReference prompt, String aiResponse) {
 		NewsAiAnalysis aiAnalysis = NewsAiAnalysis.builder()
 			.news(news)
-			.aiRequest(prompt)
+			.prompt(prompt)
 			.aiResponse(aiResponse)
 			.build();
 
 		return newsAiAnalysisRepository.save(aiAnalysis);
 	}
 
+	private static Counter reusedCounter(String reason, MeterRegistry meterRegistry) {
+		return Counter.builder("news.ai_analysis.reused")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
 	/**
-	 * 특정 뉴스에 대해 기본 프롬프트로 새로운 AI 분석을 생성
+	 * 동시에 들어온 같은 분석 요청을 하나로 묶는 키. 본문은 SHA-256 해시로, 사용자 지시문은 전체를 비교합니다.
 	 */
-	@Transactional
-	public NewsAiAnalysis createDefaultAnalysis(Long newsId) {
-		return createNewAnalysis(newsId, null);
+	private record AnalysisKey(Long newsId, PromptReference prompt) {
 	}
-} 
\ No newline at end of file
+}
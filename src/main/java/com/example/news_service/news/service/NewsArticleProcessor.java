@@ -0,0 +1,87 @@
+package com.example.news_service.news.service;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.FailureKind;
+import com.example.news_service.news.client.ArticleExtraction;
+import com.example.news_service.news.client.ChunkedSummarizer;
+import com.example.news_service.news.client.GptRequestScheduler;
+import com.example.news_service.news.client.NewsScraper;
+import com.example.news_service.news.client.PromptTemplate;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.entity.PromptReference;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링한 기사 한 건의 스크래핑/요약 단계를 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsArticleProcessor {
+
+	private final NewsScraper newsScraper;
+	private final ChunkedSummarizer chunkedSummarizer;
+	private final NearDuplicateDetector nearDuplicateDetector;
+
+	/**
+	 * 기사 본문/이미지를 한 번의 요청으로 추출합니다. 본문이 없으면 EMPTY_RESPONSE 로 실패합니다.
+	 */
+	public CallResult<ScrapedArticle> scrape(News news) {
+		return newsScraper.extractArticle(news.getOriginalUrl())
+			.flatMap(extraction -> toScrapedArticle(news, extraction));
+	}
+
+	private CallResult<ScrapedArticle> toScrapedArticle(News news, ArticleExtraction extraction) {
+		if (!extraction.hasContent()) {
+			log.warn("뉴스 본문을 스크래핑할 수 없습니다: {}", news.getOriginalUrl());
+			return CallResult.failure(FailureKind.EMPTY_RESPONSE, "본문을 추출할 수 없습니다.");
+		}
+
+		if (extraction.hasImage()) {
+			news.setImageUrl(extraction.getImageUrl());
+			log.info("이미지 URL 설정: {}", extraction.getImageUrl());
+		} else {
+			log.warn("이미지 URL을 추출할 수 없습니다: {}", news.getOriginalUrl());
+		}
+
+		return CallResult.success(new ScrapedArticle(news, extraction.getContent()));
+	}
+
+	/**
+	 * 스크래핑한 본문으로 AI 요약을 생성합니다. 요약에 실패하면 기사를 저장하지 않도록 실패를 그대로 돌려줍니다.
+	 * 이미 요약한 기사와 본문이 거의 같으면 GPT 를 호출하지 않고 그 기사의 요약을 재사용하며 원본 기사로 연결합니다.
+	 * 새 요약의 지문은 바로 등록해 같은 배치의 사본도 재사용하게 하고, 저장에 실패하면 CrawledNewsWriter 가 뺍니다.
+	 * GPT 요청은 크롤링 우선순위(BULK)로 요청 한도 스케줄러에 넣고 결과가 나올 때까지 기다립니다.
+	 * 긴 본문은 조각으로 나눠 요약한 뒤 합칩니다(ChunkedSummarizer).
+	 */
+	public CallResult<CrawledArticle> summarize(ScrapedArticle article) {
+		News news = article.news();
+		OptionalLong fingerprint = nearDuplicateDetector.fingerprint(article.originalContent());
+		if (fingerprint.isPresent()) {
+			news.setContentSimHash(fingerprint.getAsLong());
+			Optional<NearDuplicateDetector.Summarized> original = nearDuplicateDetector.findNearest(fingerprint.getAsLong());
+			if (original.isPresent()) {
+				log.info("거의 같은 기사의 요약을 재사용합니다: {}", news.getOriginalUrl());
+				news.setDuplicateOfUrlHash(original.get().urlHash());
+				news.setContent(original.get().summary());
+				return CallResult.success(new CrawledArticle(news, null, original.get().summary()));
+			}
+		}
+
+		PromptReference prompt = PromptReference.of(PromptTemplate.NEWS_SUMMARY.id(), null, article.originalContent());
+		CallResult<String> summary = chunkedSummarizer.summarize(PromptTemplate.NEWS_SUMMARY, article.originalContent(),
+			GptRequestScheduler.Priority.BULK).join();
+		return summary.map(aiResponse -> {
+			news.setContent(aiResponse);
+			fingerprint.ifPresent(simHash -> nearDuplicateDetector.register(simHash, news.getUrlHash(), aiResponse));
+			return new CrawledArticle(news, prompt, aiResponse);
+		});
+	}
+}
@@ -1,9 +1,14 @@
 package com.example.news_service.news.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.dto.CrawlJobInfo;
 import com.example.news_service.news.dto.NewsListInfo;
 import com.example.news_service.news.dto.NewsReadInfo;
 
@@ -72,4 +77,48 @@ public class NewsConverter {
 			.hasPrevious(newsPage.hasPrevious())
 			.build();
 	}
-} 
\ No newline at end of file
+
+	/**
+	 * CrawlJob을 CrawlJobResponse로 변환
+	 */
+	public CrawlJobInfo.CrawlJobResponse createCrawlJobResponse(CrawlJob job) {
+		return CrawlJobInfo.CrawlJobResponse.builder()
+			.jobId(job.getId())
+			.status(job.getStatus().name())
+			.savedCount(job.getSavedCount())
+			.submittedAt(job.getSubmittedAt())
+			.startedAt(job.getStartedAt())
+			.finishedAt(job.getFinishedAt())
+			.elapsedMillis(elapsedMillis(job.getStartedAt(), job.getFinishedAt()))
+			.error(job.getError())
+			.categories(job.getProgress().entrySet().stream()
+				.map(entry -> createCategoryProgressResponse(entry.getKey(), entry.getValue()))
+				.toList())
+			.build();
+	}
+
+	private CrawlJobInfo.CategoryProgressResponse createCategoryProgressResponse(NewsCategory category,
+		CrawlJob.CategoryProgress progress) {
+		return CrawlJobInfo.CategoryProgressResponse.builder()
+			.category(category.name())
+			.categoryName(category.getName())
+			.status(progress.getStatus().name())
+			.fetchedCount(progress.getFetched())
+			.savedCount(progress.getSaved())
+			.startedAt(progress.getStartedAt())
+			.finishedAt(progress.getFinishedAt())
+			.elapsedMillis(elapsedMillis(progress.getStartedAt(), progress.getFinishedAt()))
+			.error(progress.getError())
+			.build();
+	}
+
+	/**
+	 * 시작 전이면 null, 진행 중이면 지금까지 걸린 시간
+	 */
+	private Long elapsedMillis(LocalDateTime startedAt, LocalDateTime finishedAt) {
+		if (startedAt == null) {
+			return null;
+		}
+		return Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now()).toMillis();
+	}
+}
@@ -0,0 +1,237 @@
+package com.example.news_service.news.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.common.pipeline.PipelineStage;
+import com.example.news_service.common.pipeline.StageHandler;
+import com.example.news_service.common.pipeline.StageStats;
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.news.client.NaverNewsClient;
+import com.example.news_service.news.client.ReactiveNaverNewsClient;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.entity.CrawlWatermark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 뉴스 수집을 단계별 파이프라인으로 실행합니다.
+ * 네이버 조회 → 중복 제거 → 본문 스크래핑 → AI 요약 → 저장(배치) 단계가 크기 제한 큐로 연결되며,
+ * 단계마다 워커 수를 따로 설정합니다. 느린 단계의 큐가 차면 앞 단계가 대기하므로 메모리 사용량이 제한됩니다.
+ * 스크래핑/요약은 기사마다 끝나는 순서가 다르지만, 저장 단계는 카테고리마다 조회한 순서대로 저장합니다(InOrderPersistHandler).
+ */
+@Slf4j
+@Component
+public class NewsCrawlPipeline {
+
+	private static final String METRIC_PREFIX = "news.crawl.pipeline";
+
+	private final NaverNewsClient naverNewsClient;
+	private final ReactiveNaverNewsClient reactiveNaverNewsClient;
+	private final NewsUrlDeduplicator newsUrlDeduplicator;
+	private final NewsArticleProcessor newsArticleProcessor;
+	private final CrawledNewsWriter crawledNewsWriter;
+	private final CrawlWatermarkService crawlWatermarkService;
+	private final ExecutorService crawlExecutor;
+	private final Map<String, StageStats> stageStats = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+
+	@Value("${news.crawl.deep-fetch.enabled:false}")
+	private boolean deepFetchEnabled;
+
+	@Value("${news.crawl.deep-fetch.max-items:1000}")
+	private int deepFetchMaxItems;
+
+	@Value("${news.crawl.pipeline.queue-capacity:32}")
+	private int queueCapacity;
+
+	@Value("${news.crawl.pipeline.fetch-workers:2}")
+	private int fetchWorkers;
+
+	@Value("${news.crawl.pipeline.dedup-workers:1}")
+	private int dedupWorkers;
+
+	@Value("${news.crawl.pipeline.scrape-workers:8}")
+	private int scrapeWorkers;
+
+	@Value("${news.crawl.pipeline.summarize-workers:4}")
+	private int summarizeWorkers;
+
+	@Value("${news.crawl.pipeline.persist-workers:1}")
+	private int persistWorkers;
+
+	@Value("${news.crawl.pipeline.persist-batch-size:20}")
+	private int persistBatchSize;
+
+	public NewsCrawlPipeline(NaverNewsClient naverNewsClient,
+		ReactiveNaverNewsClient reactiveNaverNewsClient,
+		NewsUrlDeduplicator newsUrlDeduplicator,
+		NewsArticleProcessor newsArticleProcessor,
+		CrawledNewsWriter crawledNewsWriter,
+		CrawlWatermarkService crawlWatermarkService,
+		ExecutorService crawlExecutor,
+		MeterRegistry meterRegistry) {
+		this.naverNewsClient = naverNewsClient;
+		this.reactiveNaverNewsClient = reactiveNaverNewsClient;
+		this.newsUrlDeduplicator = newsUrlDeduplicator;
+		this.newsArticleProcessor = newsArticleProcessor;
+		this.crawledNewsWriter = crawledNewsWriter;
+		this.crawlWatermarkService = crawlWatermarkService;
+		this.crawlExecutor = crawlExecutor;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 주어진 카테고리들을 파이프라인으로 크롤링하고 카테고리별 저장 건수를 반환합니다.
+	 * 카테고리 워터마크는 파이프라인이 끝까지 처리된 뒤, 저장했거나 영구적인 이유로 건너뛴 기사까지만 옮깁니다.
+	 */
+	public Map<NewsCategory, Integer> run(List<NewsCategory> categories, int display) {
+		return run(categories, display, CrawlProgressListener.NONE);
+	}
+
+	/**
+	 * 파이프라인으로 크롤링하며 진행 상황을 listener 로 알립니다.
+	 * 카테고리 완료는 모든 단계가 끝난 뒤 한꺼번에 알립니다. 취소되어 건너뛴 카테고리는 취소로,
+	 * 파이프라인이 중간에 중단되면 끝나지 않은 카테고리는 실패로 알립니다.
+	 */
+	public Map<NewsCategory, Integer> run(List<NewsCategory> categories, int display, CrawlProgressListener listener) {
+		long startedAt = System.currentTimeMillis();
+		Map<NewsCategory, AtomicInteger> savedCounts = new EnumMap<>(NewsCategory.class);
+		categories.forEach(category -> savedCounts.put(category, new AtomicInteger()));
+		Set<String> seenUrlHashes = ConcurrentHashMap.newKeySet();
+		Set<String> unfinishedUrlHashes = ConcurrentHashMap.newKeySet(); // 새 기사 중 아직 저장하지 못한 기사
+		Map<NewsCategory, List<News>> fetched = new ConcurrentHashMap<>();
+		Set<NewsCategory> cancelled = ConcurrentHashMap.newKeySet();
+
+		PipelineStage<NewsCategory, List<News>> fetch = stage("fetch", fetchWorkers,
+			(category, out) -> {
+				if (listener.isCancelled()) {
+					log.warn("{} 카테고리 크롤링을 건너뜁니다 (취소됨)", category.getName());
+					cancelled.add(category);
+					return;
+				}
+				listener.categoryStarted(category);
+				List<News> newsList;
+				try {
+					newsList = fetchCategory(category, display);
+				} catch (Exception e) {
+					listener.categoryFailed(category, e);
+					throw e;
+				}
+				listener.articlesFetched(category, newsList.size());
+				fetched.put(category, newsList);
+				out.emit(newsList);
+			});
+		InOrderPersistHandler persistInOrder = new InOrderPersistHandler(persistBatchSize, batch -> {
+			for (News saved : crawledNewsWriter.saveAll(batch)) {
+				unfinishedUrlHashes.remove(saved.getUrlHash());
+				savedCounts.get(saved.getCategory()).incrementAndGet();
+				listener.articleSaved(saved.getCategory());
+			}
+		});
+		PipelineStage<List<News>, News> dedup = stage("dedup", dedupWorkers, (newsList, out) -> {
+			for (News news : newsUrlDeduplicator.filterNew(newsList)) {
+				unfinishedUrlHashes.add(news.getUrlHash());
+				if (seenUrlHashes.add(news.getUrlHash())) { // 다른 카테고리에서 이미 처리 중인 기사 제외
+					persistInOrder.register(news);
+					out.emit(news);
+				}
+			}
+		});
+		// 실패한 기사는 다음 단계로 넘기지 않으므로 요약에 실패한 기사는 저장되지 않음
+		PipelineStage<News, ScrapedArticle> scrape = stage("scrape", scrapeWorkers, (news, out) -> {
+			CallResult<ScrapedArticle> article = newsArticleProcessor.scrape(news);
+			if (article instanceof CallResult.Success<ScrapedArticle> scraped) {
+				out.emit(scraped.value());
+				return;
+			}
+			persistInOrder.skip(news);
+			if (isPermanent(article)) {
+				unfinishedUrlHashes.remove(news.getUrlHash());
+			}
+		});
+		PipelineStage<ScrapedArticle, CrawledArticle> summarize = stage("summarize", summarizeWorkers, (article, out) -> {
+			CallResult<CrawledArticle> crawled = newsArticleProcessor.summarize(article);
+			if (crawled instanceof CallResult.Success<CrawledArticle> summarized) {
+				out.emit(summarized.value());
+				return;
+			}
+			persistInOrder.skip(article.news());
+			if (isPermanent(crawled)) {
+				unfinishedUrlHashes.remove(article.news().getUrlHash());
+			}
+		});
+		PipelineStage<CrawledArticle, Void> persist = stage("persist", persistWorkers, persistInOrder);
+
+		fetch.then(dedup).then(scrape).then(summarize).then(persist);
+		fetch.start(crawlExecutor);
+
+		boolean aborted = false;
+		try {
+			for (NewsCategory category : categories) {
+				fetch.submit(category);
+			}
+			fetch.complete();
+			fetch.awaitTermination();
+			fetched.forEach((category, newsList) ->
+				crawlWatermarkService.advance(category, newsList, unfinishedUrlHashes));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fetch.abort();
+			aborted = true;
+			log.warn("뉴스 크롤링 파이프라인이 중단되었습니다.");
+		}
+
+		Map<NewsCategory, Integer> result = new EnumMap<>(NewsCategory.class);
+		for (Map.Entry<NewsCategory, AtomicInteger> entry : savedCounts.entrySet()) {
+			NewsCategory category = entry.getKey();
+			int count = entry.getValue().get();
+			result.put(category, count);
+			if (cancelled.contains(category)) {
+				listener.categoryCancelled(category);
+			} else if (aborted) {
+				listener.categoryFailed(category, new IllegalStateException("크롤링 파이프라인이 중단되었습니다."));
+				log.warn("{} 카테고리 뉴스 크롤링 중단: {}개 저장됨", category.getName(), count);
+			} else {
+				listener.categoryFinished(category);
+				log.info("{} 카테고리 뉴스 크롤링 완료: {}개 저장됨", category.getName(), count);
+			}
+		}
+		for (PipelineStage<?, ?> stage = fetch; stage != null; stage = stage.getNext()) {
+			log.info("[{}] 단계 처리 {}건, 실패 {}건, 처리 시간 합계 {}ms",
+				stage.getName(), stage.getSucceededCount(), stage.getFailedCount(), stage.getBusyMillis());
+		}
+		log.info("뉴스 크롤링 파이프라인 완료: {}ms", System.currentTimeMillis() - startedAt);
+		return result;
+	}
+
+	/**
+	 * 워터마크 이후 기사만 조회합니다. deep fetch 가 켜져 있으면 워터마크에 닿을 때까지 여러 페이지를 조회합니다.
+	 */
+	private List<News> fetchCategory(NewsCategory category, int display) {
+		CrawlWatermark watermark = crawlWatermarkService.find(category).orElse(null);
+		if (deepFetchEnabled) {
+			return reactiveNaverNewsClient.fetchNews(category, watermark, deepFetchMaxItems).collectList().block();
+		}
+		return naverNewsClient.fetchNewsFromNaver(category, display, watermark).getOrThrow();
+	}
+
+	private static boolean isPermanent(CallResult<?> result) {
+		return result instanceof CallResult.Failure<?> failure && failure.kind().isPermanent();
+	}
+
+	private <I, O> PipelineStage<I, O> stage(String name, int workers, StageHandler<I, O> handler) {
+		StageStats stats = stageStats.computeIfAbsent(name, stage -> new StageStats(METRIC_PREFIX, stage, meterRegistry));
+		return new PipelineStage<>(name, workers, queueCapacity, handler, stats);
+	}
+}
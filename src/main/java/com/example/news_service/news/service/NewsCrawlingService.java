@@ -1,19 +1,22 @@
 package com.example.news_service.news.service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.example.news_service.news.client.GptApiClient;
+import com.example.news_service.common.lock.JobLease;
+import com.example.news_service.common.lock.JobLockService;
+import com.example.news_service.common.resilience.CallResult;
 import com.example.news_service.news.client.NaverNewsClient;
-import com.example.news_service.news.client.NewsScraper;
 import com.example.news_service.news.domain.News;
 import com.example.news_service.news.domain.NewsCategory;
-import com.example.news_service.news.entity.NewsAiAnalysis;
-import com.example.news_service.news.repository.NewsAiAnalysisRepository;
-import com.example.news_service.news.repository.NewsRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,109 +26,181 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NewsCrawlingService {
 
+	private static final String SCHEDULED_CRAWL_LOCK = "scheduled-news-crawl";
+
 	private final NaverNewsClient naverNewsClient;
-	private final NewsRepository newsRepository;
-	private final NewsScraper newsScraper;
-	private final GptApiClient gptApiClient;
-	private final NewsAiAnalysisRepository newsAiAnalysisRepository;
-
-	private static final String DEFAULT_AI_PROMPT_TEMPLATE = """
-		You are a friendly and witty news editor, like 'Newneek'. Your task is to summarize the following news article.
-		- Start with a catchy, questioning title.
-		- Use markdown for formatting.
-		- Use bullet points (•) and bold text to break down the key events or points chronologically or by importance.
-		- The tone should be easy to understand, engaging, and conversational for a young adult audience.
-		- Explain the background and why this news is important.
-		- Ensure the output is in Korean.
-
-		---
-		[News Article]
-		%s
-		""";
+	private final NewsUrlDeduplicator newsUrlDeduplicator;
+	private final NewsArticleProcessor newsArticleProcessor;
+	private final CrawledNewsWriter crawledNewsWriter;
+	private final NewsCrawlPipeline newsCrawlPipeline;
+	private final CrawlWatermarkService crawlWatermarkService;
+	private final CrawlFrontierService crawlFrontierService;
+	private final JobLockService jobLockService;
+
+	@Value("${news.crawl.pipeline.enabled:false}")
+	private boolean pipelineEnabled;
+
+	@Value("${news.crawl.frontier.enabled:false}")
+	private boolean frontierEnabled;
+
+	@Value("${news.crawl.schedule.lock-lease:30m}")
+	private Duration scheduledCrawlLease;
+
+	@Value("${news.crawl.schedule.lock-at-least:10m}")
+	private Duration scheduledCrawlMinHold;
+
+	@Value("${news.crawl.category-interval:1s}")
+	private Duration categoryInterval;
 
 	/**
 	 * 특정 카테고리의 뉴스를 크롤링하고 저장합니다.
 	 */
-	@Transactional
 	public void crawlAndSaveNews(NewsCategory category, int display) {
+		crawlAndSaveNews(category, display, CrawlProgressListener.NONE);
+	}
+
+	/**
+	 * 특정 카테고리의 뉴스를 크롤링하고 저장합니다.
+	 * 스크래핑/요약은 트랜잭션 밖에서 모두 끝낸 뒤, 짧은 트랜잭션 하나로 일괄 저장합니다.
+	 * 카테고리 워터마크 이전 기사는 가져오지 않으며, 저장이 끝나면 저장했거나 영구적인 이유로 건너뛴 기사까지만 워터마크를 옮깁니다.
+	 * 크롤링 대기열을 쓰면 새 기사를 대기열에 넣기만 하고, 스크래핑/요약은 모든 노드의 CrawlFrontierWorker 가 나눠 처리합니다.
+	 */
+	public void crawlAndSaveNews(NewsCategory category, int display, CrawlProgressListener listener) {
+		if (frontierEnabled) {
+			enqueueNews(category, display, listener);
+			return;
+		}
+		if (pipelineEnabled) {
+			newsCrawlPipeline.run(List.of(category), display, listener);
+			return;
+		}
+
 		log.info("{} 카테고리 뉴스 크롤링 시작", category.getName());
+		listener.categoryStarted(category);
 
 		try {
-			List<News> newsList = naverNewsClient.fetchNewsFromNaver(category, display);
-
-			int savedCount = 0;
-			for (News news : newsList) {
-				if (!newsRepository.existsByOriginalUrl(news.getOriginalUrl())) {
-
-					// 뉴스 본문 스크래핑
-					String originalContent = newsScraper.scrapeNewsContent(news.getOriginalUrl());
-					if (originalContent == null || originalContent.isBlank()) {
-						log.warn("뉴스 본문을 스크래핑할 수 없습니다: {}", news.getOriginalUrl());
-						continue; // 본문이 없으면 저장하지 않고 다음 뉴스로
-					}
-
-					String imageUrl = newsScraper.extractImageUrl(news.getOriginalUrl());
-					if (imageUrl != null && !imageUrl.isBlank()) {
-						news.setImageUrl(imageUrl);
-						log.info("이미지 URL 설정: {}", imageUrl);
-					} else {
-						log.warn("이미지 URL을 추출할 수 없습니다: {}", news.getOriginalUrl());
-					}
-
-					String aiRequest = String.format(DEFAULT_AI_PROMPT_TEMPLATE, originalContent);
-					String aiResponse = gptApiClient.summarizeText(aiRequest);
-
-					news.setContent(aiResponse);
-
-					News savedNews = newsRepository.save(news);
-
-					NewsAiAnalysis aiAnalysis = NewsAiAnalysis.builder()
-						.news(savedNews)
-						.aiRequest(aiRequest)
-						.aiResponse(aiResponse)
-						.build();
-
-					newsAiAnalysisRepository.save(aiAnalysis);
-					savedCount++;
+			List<News> newsList = naverNewsClient.fetchNewsFromNaver(category, display,
+				crawlWatermarkService.find(category).orElse(null)).getOrThrow();
+			listener.articlesFetched(category, newsList.size());
+			if (newsList.isEmpty()) {
+				log.info("{} 카테고리 새 기사 없음", category.getName());
+				listener.categoryFinished(category);
+				return;
+			}
+
+			List<CrawledArticle> crawledArticles = new ArrayList<>();
+			Set<String> unfinishedUrlHashes = new HashSet<>();
+			for (News news : newsUrlDeduplicator.filterNew(newsList)) {
+				// 본문 추출이나 요약에 실패한 기사는 저장하지 않고 다음 뉴스로
+				CallResult<CrawledArticle> crawled = newsArticleProcessor.scrape(news)
+					.flatMap(newsArticleProcessor::summarize);
+				if (crawled instanceof CallResult.Success<CrawledArticle> article) {
+					crawledArticles.add(article.value());
+				}
+				if (!(crawled instanceof CallResult.Failure<CrawledArticle> failure && failure.kind().isPermanent())) {
+					unfinishedUrlHashes.add(news.getUrlHash());
 				}
 			}
 
-			log.info("{} 카테고리 뉴스 크롤링 완료: {}개 저장됨", category.getName(), savedCount);
+			// 네트워크 작업이 끝난 뒤 한 트랜잭션으로 일괄 저장
+			List<News> savedNews = crawledNewsWriter.saveAll(crawledArticles);
+			savedNews.forEach(saved -> {
+				unfinishedUrlHashes.remove(saved.getUrlHash());
+				listener.articleSaved(category);
+			});
+			crawlWatermarkService.advance(category, newsList, unfinishedUrlHashes);
+
+			log.info("{} 카테고리 뉴스 크롤링 완료: {}개 저장됨", category.getName(), savedNews.size());
+			listener.categoryFinished(category);
 
 		} catch (Exception e) {
 			log.error("{} 카테고리 뉴스 크롤링 중 오류 발생: {}", category.getName(), e.getMessage(), e);
+			listener.categoryFailed(category, e);
+		}
+	}
+
+	/**
+	 * 새 기사를 크롤링 대기열에 등록합니다.
+	 */
+	private void enqueueNews(NewsCategory category, int display, CrawlProgressListener listener) {
+		listener.categoryStarted(category);
+		try {
+			List<News> newsList = naverNewsClient.fetchNewsFromNaver(category, display,
+				crawlWatermarkService.find(category).orElse(null)).getOrThrow();
+			listener.articlesFetched(category, newsList.size());
+
+			int enqueued = crawlFrontierService.enqueue(newsUrlDeduplicator.filterNew(newsList));
+			crawlWatermarkService.advance(category, newsList);
+
+			log.info("{} 카테고리 새 기사 {}개 대기열 등록", category.getName(), enqueued);
+			listener.categoryFinished(category);
+		} catch (Exception e) {
+			log.error("{} 카테고리 대기열 등록 중 오류 발생: {}", category.getName(), e.getMessage(), e);
+			listener.categoryFailed(category, e);
 		}
 	}
 
 	/**
 	 * 모든 카테고리의 뉴스를 크롤링
 	 */
-	@Transactional
 	public void crawlAllCategories() {
 		log.info("전체 카테고리 뉴스 크롤링 시작");
+		crawlCategories(List.of(NewsCategory.values()), 10, CrawlProgressListener.NONE); // 각 카테고리당 10개씩
+		log.info("전체 카테고리 뉴스 크롤링 완료");
+	}
 
-		for (NewsCategory category : NewsCategory.values()) {
-			crawlAndSaveNews(category, 10); // 각 카테고리당 10개씩
+	/**
+	 * 여러 카테고리의 뉴스를 크롤링하고 진행 상황을 listener 로 알립니다.
+	 */
+	public void crawlCategories(List<NewsCategory> categories, int display, CrawlProgressListener listener) {
+		if (pipelineEnabled && !frontierEnabled) {
+			newsCrawlPipeline.run(categories, display, listener);
+			return;
+		}
+
+		for (int i = 0; i < categories.size(); i++) {
+			if (listener.isCancelled()) {
+				log.warn("크롤링이 취소되어 남은 카테고리를 건너뜁니다.");
+				categories.subList(i, categories.size()).forEach(listener::categoryCancelled);
+				break;
+			}
+			crawlAndSaveNews(categories.get(i), display, listener);
 
 			// API 호출 간격 조절 (네이버 API 제한 고려)
 			try {
-				Thread.sleep(1000); // 1초 대기
+				Thread.sleep(categoryInterval.toMillis());
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
+				categories.subList(i + 1, categories.size()).forEach(listener::categoryCancelled);
 				break;
 			}
 		}
-
-		log.info("전체 카테고리 뉴스 크롤링 완료");
 	}
 
 	/**
-	 * 매일 자정에 뉴스를 크롤링
+	 * 매일 자정에 뉴스를 크롤링. 모든 인스턴스에서 실행되지만 DB 잠금을 얻은 한 노드만 크롤링합니다.
+	 * 카테고리를 시작할 때마다 잠금 임대를 연장하고, 잠금을 잃으면 남은 카테고리를 건너뜁니다.
+	 * 크롤링이 빨리 끝나도 잠금은 lock-at-least 동안 유지해, 늦게 깨어난 노드가 같은 회차를 다시 크롤링하지 않게 합니다.
 	 */
 	@Scheduled(cron = "0 0 0 * * ?") // 매일 자정
 	public void scheduledNewsCrawling() {
-		log.info("스케줄된 뉴스 크롤링 시작");
-		crawlAllCategories();
+		Optional<JobLease> lease = jobLockService.tryAcquire(SCHEDULED_CRAWL_LOCK, scheduledCrawlLease);
+		if (lease.isEmpty()) {
+			return;
+		}
+
+		log.info("스케줄된 뉴스 크롤링 시작 (token={})", lease.get().fencingToken());
+		try {
+			crawlCategories(List.of(NewsCategory.values()), 10, new CrawlProgressListener() {
+				@Override
+				public boolean isCancelled() {
+					return !jobLockService.extend(lease.get(), scheduledCrawlLease);
+				}
+			});
+			log.info("스케줄된 뉴스 크롤링 완료");
+		} finally {
+			jobLockService.release(lease.get(), scheduledCrawlMinHold);
+		}
 	}
 
 	/**
@@ -135,4 +210,4 @@ public class NewsCrawlingService {
 		log.info("수동 뉴스 크롤링 시작");
 		crawlAllCategories();
 	}
-} 
\ No newline at end of file
+}
\ No newline at end of file
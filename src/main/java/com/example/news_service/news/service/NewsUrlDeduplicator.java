@@ -0,0 +1,68 @@
+package com.example.news_service.news.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.repository.NewsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsUrlDeduplicator {
+
+	private final NewsRepository newsRepository;
+	private final NewsUrlFilter newsUrlFilter;
+
+	/**
+	 * 아직 저장되지 않은 뉴스만 남깁니다. URL 필터가 확실히 새 URL 이라고 판단한 후보는 DB 조회를 생략하고,
+	 * 나머지는 URL 해시 기준으로 한 번에 조회합니다. 목록 안에서 중복된 URL은 처음 나온 것만 유지합니다.
+	 * URL 필터는 인스턴스가 하나일 때만 켜므로, 기본 설정이나 여러 인스턴스 운영에서는 모든 후보를 DB로 확인합니다.
+	 */
+	public List<News> filterNew(List<News> candidates) {
+		Map<String, News> byHash = new LinkedHashMap<>();
+		for (News news : candidates) {
+			byHash.putIfAbsent(news.getUrlHash(), news);
+		}
+		if (byHash.isEmpty()) {
+			return List.of();
+		}
+
+		Set<String> maybePresent = new HashSet<>();
+		for (Map.Entry<String, News> entry : byHash.entrySet()) {
+			if (newsUrlFilter.mightContain(entry.getValue().getOriginalUrl())) {
+				maybePresent.add(entry.getKey());
+			}
+		}
+
+		Set<String> existing = maybePresent.isEmpty()
+			? Set.of()
+			: new HashSet<>(newsRepository.findExistingUrlHashes(maybePresent));
+
+		List<News> newNews = new ArrayList<>(byHash.size() - existing.size());
+		for (Map.Entry<String, News> entry : byHash.entrySet()) {
+			if (!existing.contains(entry.getKey())) {
+				newNews.add(entry.getValue());
+			}
+		}
+
+		log.info("URL 중복 체크: 후보 {}개 중 DB 조회 {}개, 신규 {}개", candidates.size(), maybePresent.size(), newNews.size());
+		return newNews;
+	}
+
+	/**
+	 * 저장된 뉴스를 URL 필터에 등록합니다.
+	 */
+	public void markSaved(News news) {
+		newsUrlFilter.put(news.getOriginalUrl());
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.news_service.news.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.news_service.common.util.BloomFilter;
+import com.example.news_service.news.domain.UrlHash;
+import com.example.news_service.news.repository.NewsRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 모든 뉴스 원문 URL의 Bloom filter. 인스턴스가 하나일 때만 news.url-filter.enabled 로 켭니다.
+ * 시작 시 news 테이블을 스트리밍으로 읽어 채우고, 저장할 때마다 갱신합니다.
+ * 로딩이 끝나기 전이나 꺼져 있을 때는 모든 URL을 "있을 수도 있음"으로 취급해 DB 조회로 넘깁니다.
+ * 필터는 이 노드가 저장한 URL만 알고 url_hash 에는 유니크 제약이 없으므로, 켜 두고 여러 인스턴스를 띄우면 중복 저장될 수 있습니다.
+ * 그래서 여러 인스턴스로 운영하는 설정(news.multi-instance 또는 크롤링 대기열 사용)에서는 켜도 쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class NewsUrlFilter {
+
+	private final NewsRepository newsRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final BloomFilter filter; // 꺼져 있으면 null
+	private final Counter definitelyNewCounter;
+	private final Counter maybePresentCounter;
+
+	private final boolean enabled;
+
+	private volatile boolean ready = false;
+
+	public NewsUrlFilter(NewsRepository newsRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${news.url-filter.enabled:false}") boolean enabled,
+		@Value("${news.url-filter.expected-insertions:10000000}") long expectedInsertions,
+		@Value("${news.url-filter.false-positive-rate:0.01}") double falsePositiveRate,
+		@Value("${news.multi-instance:false}") boolean multiInstance,
+		@Value("${news.crawl.frontier.enabled:false}") boolean frontierEnabled) {
+		this.newsRepository = newsRepository;
+		this.enabled = enabled && !multiInstance && !frontierEnabled;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.filter = this.enabled ? BloomFilter.create(expectedInsertions, falsePositiveRate) : null;
+		if (enabled && !this.enabled) {
+			log.warn("여러 인스턴스 설정에서는 뉴스 URL 필터(news.url-filter.enabled)를 쓰지 않습니다.");
+		}
+		this.definitelyNewCounter = Counter.builder("news.url_filter.checks")
+			.tag("result", "definitely_new")
+			.register(meterRegistry);
+		this.maybePresentCounter = Counter.builder("news.url_filter.checks")
+			.tag("result", "maybe_present")
+			.register(meterRegistry);
+		if (filter == null) {
+			return;
+		}
+
+		Gauge.builder("news.url_filter.bits", filter, BloomFilter::bitSize)
+			.description("Bloom filter 비트 수")
+			.register(meterRegistry);
+		Gauge.builder("news.url_filter.memory", filter, f -> f.bitSize() / 8.0)
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		Gauge.builder("news.url_filter.hash_functions", filter, BloomFilter::hashFunctions)
+			.register(meterRegistry);
+		Gauge.builder("news.url_filter.approximate_size", filter, BloomFilter::approximateElementCount)
+			.description("비트 점유율로 추정한 URL 수")
+			.register(meterRegistry);
+		Gauge.builder("news.url_filter.false_positive_rate", filter, BloomFilter::expectedFalsePositiveRate)
+			.description("현재 비트 점유율 기준 오탐률")
+			.register(meterRegistry);
+		Gauge.builder("news.url_filter.ready", this, f -> f.ready ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		if (!enabled) {
+			log.info("뉴스 URL 필터를 쓰지 않고 DB로 중복을 확인합니다.");
+			return;
+		}
+		Thread.ofVirtual().name("news-url-filter-loader").start(this::loadFromDatabase);
+	}
+
+	/**
+	 * false 이면 저장된 적 없는 URL 이므로 DB 조회를 생략할 수 있습니다.
+	 */
+	public boolean mightContain(String originalUrl) {
+		if (!ready || filter.mightContain(UrlHash.digest(originalUrl.trim()))) {
+			maybePresentCounter.increment();
+			return true;
+		}
+		definitelyNewCounter.increment();
+		return false;
+	}
+
+	public void put(String originalUrl) {
+		if (enabled) {
+			filter.put(UrlHash.digest(originalUrl.trim()));
+		}
+	}
+
+	private void loadFromDatabase() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			long loaded = readOnlyTransaction.execute(status -> {
+				AtomicLong count = new AtomicLong();
+				try (Stream<String> urls = newsRepository.streamAllOriginalUrls()) {
+					urls.forEach(url -> {
+						put(url);
+						count.incrementAndGet();
+					});
+				}
+				return count.get();
+			});
+			ready = true;
+			log.info("뉴스 URL 필터 로딩 완료: {}개, {}ms, 비트 {}개, 예상 오탐률 {}",
+				loaded, System.currentTimeMillis() - startedAt, filter.bitSize(), filter.expectedFalsePositiveRate());
+		} catch (Exception e) {
+			log.error("뉴스 URL 필터 로딩 중 오류 발생, DB 중복 체크만 사용합니다: {}", e.getMessage(), e);
+		}
+	}
+}
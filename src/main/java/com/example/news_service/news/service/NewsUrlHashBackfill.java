@@ -0,0 +1,44 @@
+package com.example.news_service.news.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.repository.NewsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * url_hash 컬럼 추가 이전에 저장된 뉴스의 URL 해시를 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsUrlHashBackfill {
+
+	private final NewsRepository newsRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		int total = 0;
+		int updated;
+		do {
+			updated = transactionTemplate.execute(status -> {
+				List<News> batch = newsRepository.findTop500ByUrlHashIsNull();
+				batch.forEach(News::syncUrlHash);
+				return batch.size();
+			});
+			total += updated;
+		} while (updated > 0);
+
+		if (total > 0) {
+			log.info("뉴스 URL 해시 백필 완료: {}개", total);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.example.news_service.news.service;
+
+import com.example.news_service.news.domain.News;
+
+/**
+ * 본문 스크래핑이 끝나 요약 대기 중인 기사
+ */
+public record ScrapedArticle(News news, String originalContent) {
+}
@@ -22,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TestNewsService {
 
 	private final NewsRepository newsRepository;
+	private final NewsUrlDeduplicator newsUrlDeduplicator;
 	private final Random random = new Random();
 
 	/**
@@ -42,13 +43,10 @@ public class TestNewsService {
 		}
 
 		// 중복 URL 체크 후 저장
-		int savedCount = 0;
-		for (News news : testNewsList) {
-			if (!newsRepository.existsByOriginalUrl(news.getOriginalUrl())) {
-				newsRepository.save(news);
-				savedCount++;
-			}
-		}
+		List<News> newNewsList = newsUrlDeduplicator.filterNew(testNewsList);
+		newsRepository.saveAll(newNewsList);
+		newNewsList.forEach(newsUrlDeduplicator::markSaved);
+		int savedCount = newNewsList.size();
 
 		log.info("테스트 뉴스 데이터 생성 완료: {}개 저장됨", savedCount);
 	}
@@ -0,0 +1,125 @@
+package com.example.news_service.common.archive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.news_service.news.domain.UrlHash;
+
+class SegmentArchiveTest {
+
+	private static final long SEGMENT_SIZE = 1 << 20;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("보관한 HTML 을 URL 해시로 다시 읽음")
+	void read_ReturnsStoredContent() throws IOException {
+		// Given
+		byte[] html = "<html><body><article id=\"dic_area\">본문</article></body></html>".getBytes(StandardCharsets.UTF_8);
+		try (SegmentArchive archive = new SegmentArchive(directory, SEGMENT_SIZE, 6)) {
+			archive.put(key("https://news.example.com/1"), html, "https://news.example.com/1",
+				"https://n.news.naver.com/article/1", "text/html; charset=UTF-8", 1L);
+
+			// When
+			ArchivedEntry entry = archive.find(key("https://news.example.com/1")).orElseThrow();
+
+			// Then
+			assertThat(archive.read(entry)).isEqualTo(html);
+			assertThat(entry.source()).isEqualTo("https://news.example.com/1");
+			assertThat(entry.baseUri()).isEqualTo("https://n.news.naver.com/article/1");
+			assertThat(entry.contentType()).isEqualTo("text/html; charset=UTF-8");
+		}
+	}
+
+	@Test
+	@DisplayName("같은 내용은 한 번만 저장하고 색인만 추가")
+	void put_DeduplicatesIdenticalContent() throws IOException {
+		// Given
+		byte[] html = "<html>같은 페이지</html>".getBytes(StandardCharsets.UTF_8);
+		try (SegmentArchive archive = new SegmentArchive(directory, SEGMENT_SIZE, 6)) {
+
+			// When
+			boolean first = archive.put(key("https://a.example.com/1"), html, "https://a.example.com/1", null, null, 1L);
+			boolean second = archive.put(key("https://b.example.com/1"), html, "https://b.example.com/1", null, null, 2L);
+
+			// Then
+			assertThat(first).isTrue();
+			assertThat(second).isFalse();
+			assertThat(archive.size()).isEqualTo(2);
+			assertThat(archive.blobCount()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	@DisplayName("다시 열면 색인을 복원하고, 세그먼트가 가득 차면 다음 세그먼트에 저장")
+	void reopen_RecoversIndexAcrossSegments() throws IOException {
+		// Given
+		try (SegmentArchive archive = new SegmentArchive(directory, 4096, 0)) {
+			for (int i = 0; i < 10; i++) {
+				archive.put(key("https://news.example.com/" + i), page(i, 1000), "https://news.example.com/" + i, null, null, i);
+			}
+		}
+
+		// When
+		try (SegmentArchive reopened = new SegmentArchive(directory, 4096, 0)) {
+
+			// Then
+			assertThat(reopened.size()).isEqualTo(10);
+			assertThat(reopened.entries()).extracting(ArchivedEntry::segment).isSorted().contains(1, 2);
+			for (int i = 0; i < 10; i++) {
+				ArchivedEntry entry = reopened.find(key("https://news.example.com/" + i)).orElseThrow();
+				assertThat(reopened.read(entry)).isEqualTo(page(i, 1000));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("끝이 잘린 색인 레코드는 다시 열 때 버림")
+	void reopen_TruncatesTornIndexRecord() throws IOException {
+		// Given
+		try (SegmentArchive archive = new SegmentArchive(directory, SEGMENT_SIZE, 6)) {
+			archive.put(key("https://news.example.com/1"), page(1, 100), "https://news.example.com/1", null, null, 1L);
+			archive.put(key("https://news.example.com/2"), page(2, 100), "https://news.example.com/2", null, null, 2L);
+		}
+		try (FileChannel index = FileChannel.open(directory.resolve("index.log"), StandardOpenOption.WRITE)) {
+			index.truncate(index.size() - 3);
+		}
+
+		// When
+		try (SegmentArchive reopened = new SegmentArchive(directory, SEGMENT_SIZE, 6)) {
+			reopened.put(key("https://news.example.com/3"), page(3, 100), "https://news.example.com/3", null, null, 3L);
+
+			// Then
+			assertThat(reopened.contains(key("https://news.example.com/1"))).isTrue();
+			assertThat(reopened.contains(key("https://news.example.com/2"))).isFalse();
+			assertThat(reopened.read(reopened.find(key("https://news.example.com/3")).orElseThrow())).isEqualTo(page(3, 100));
+		}
+		try (SegmentArchive reopenedAgain = new SegmentArchive(directory, SEGMENT_SIZE, 6)) {
+			assertThat(reopenedAgain.size()).isEqualTo(2);
+		}
+		assertThat(Files.exists(directory.resolve("segment-000001.dat"))).isTrue();
+	}
+
+	private byte[] key(String url) {
+		return UrlHash.digest(url);
+	}
+
+	private byte[] page(int seed, int length) {
+		byte[] page = new byte[length];
+		for (int i = 0; i < length; i++) {
+			page[i] = (byte) ((seed * 31 + i * 7) % 251);
+		}
+		return page;
+	}
+}
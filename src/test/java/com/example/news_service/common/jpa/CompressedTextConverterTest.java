@@ -0,0 +1,42 @@
+package com.example.news_service.common.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompressedTextConverterTest {
+
+	private final CompressedTextConverter converter = new CompressedTextConverter();
+
+	@Test
+	@DisplayName("긴 요약은 압축해 저장하고 읽을 때 원문으로 복원")
+	void convert_RoundTripsCompressedText() {
+		// Given
+		String summary = "**정부, 내년도 예산안 국회 제출** • 정부는 18일 내년도 예산안을 국회에 제출했다.\n".repeat(30);
+
+		// When
+		String stored = converter.convertToDatabaseColumn(summary);
+
+		// Then
+		assertThat(stored).startsWith(CompressedTextConverter.PREFIX);
+		assertThat(stored.length()).isLessThan(summary.getBytes(StandardCharsets.UTF_8).length / 3);
+		assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(summary);
+	}
+
+	@Test
+	@DisplayName("짧은 값과 압축 전에 저장된 평문은 그대로 둠")
+	void convert_KeepsShortAndLegacyPlainText() {
+		// Given
+		String shortText = "짧은 요약";
+		String legacy = "압축 이전에 저장된 긴 요약 ".repeat(30);
+
+		// When & Then
+		assertThat(converter.convertToDatabaseColumn(shortText)).isEqualTo(shortText);
+		assertThat(converter.convertToEntityAttribute(legacy)).isEqualTo(legacy);
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+	}
+}
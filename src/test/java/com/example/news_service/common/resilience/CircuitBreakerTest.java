@@ -0,0 +1,101 @@
+package com.example.news_service.common.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+	/**
+	 * 시간을 직접 움직일 수 있는 서킷 브레이커
+	 */
+	static class ManualClockCircuitBreaker extends CircuitBreaker {
+
+		long now;
+
+		ManualClockCircuitBreaker() {
+			super(4, 4, 0.5, Duration.ofSeconds(30));
+		}
+
+		@Override
+		long nanoTime() {
+			return now;
+		}
+	}
+
+	@Test
+	@DisplayName("실패 비율이 임계치를 넘으면 열리고 호출을 거절")
+	void onFailure_OpensWhenFailureRateExceeded() {
+		// Given
+		ManualClockCircuitBreaker circuitBreaker = new ManualClockCircuitBreaker();
+
+		// When
+		circuitBreaker.onSuccess();
+		circuitBreaker.onSuccess();
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+
+		// Then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+	}
+
+	@Test
+	@DisplayName("최소 호출 수를 채우기 전에는 열리지 않음")
+	void onFailure_StaysClosedBelowMinimumCalls() {
+		// Given
+		ManualClockCircuitBreaker circuitBreaker = new ManualClockCircuitBreaker();
+
+		// When
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+
+		// Then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+	}
+
+	@Test
+	@DisplayName("열린 시간이 지나면 시험 호출 한 건만 허용하고, 성공하면 닫힘")
+	void tryAcquirePermission_AllowsSingleTrialAfterOpenDuration() {
+		// Given
+		ManualClockCircuitBreaker circuitBreaker = new ManualClockCircuitBreaker();
+		for (int i = 0; i < 4; i++) {
+			circuitBreaker.onFailure();
+		}
+		circuitBreaker.now += Duration.ofSeconds(30).toNanos();
+
+		// When
+		boolean trial = circuitBreaker.tryAcquirePermission();
+		boolean concurrent = circuitBreaker.tryAcquirePermission();
+		circuitBreaker.onSuccess();
+
+		// Then
+		assertThat(trial).isTrue();
+		assertThat(concurrent).isFalse();
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("시험 호출이 실패하면 다시 열림")
+	void onFailure_ReopensWhenTrialFails() {
+		// Given
+		ManualClockCircuitBreaker circuitBreaker = new ManualClockCircuitBreaker();
+		for (int i = 0; i < 4; i++) {
+			circuitBreaker.onFailure();
+		}
+		circuitBreaker.now += Duration.ofSeconds(30).toNanos();
+		circuitBreaker.tryAcquirePermission();
+
+		// When
+		circuitBreaker.onFailure();
+
+		// Then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.news_service.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.news_service.news.domain.UrlHash;
+
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 원소는 항상 포함된 것으로 판단")
+	void mightContain_NoFalseNegatives() {
+		// Given
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put(UrlHash.digest("https://news.example.com/article/" + i));
+		}
+
+		// When & Then
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain(UrlHash.digest("https://news.example.com/article/" + i))).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("예상 원소 수만큼 채워도 오탐률이 목표치 근처로 유지")
+	void mightContain_FalsePositiveRateWithinTarget() {
+		// Given
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put(UrlHash.digest("https://news.example.com/article/" + i));
+		}
+
+		// When
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain(UrlHash.digest("https://other.example.com/article/" + i))) {
+				falsePositives++;
+			}
+		}
+
+		// Then
+		assertThat(falsePositives).isLessThan(200);
+		assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+		assertThat(filter.approximateElementCount()).isBetween(9_500L, 10_500L);
+	}
+
+	@Test
+	@DisplayName("잘못된 오탐률로 생성하면 예외 발생")
+	void create_InvalidFalsePositiveRate() {
+		assertThatThrownBy(() -> BloomFilter.create(1_000, 1.5))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
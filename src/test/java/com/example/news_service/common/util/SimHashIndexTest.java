@@ -0,0 +1,98 @@
+package com.example.news_service.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SimHashIndexTest {
+
+	private static final String[] SENTENCES = {
+		"정부는 18일 내년도 예산안을 국회에 제출했다.",
+		"총지출은 지난해보다 3.2% 늘어난 680조원 규모로, 복지와 연구개발 분야 예산이 크게 늘었다.",
+		"기획재정부는 재정 건전성을 유지하면서도 민생 회복에 집중했다고 설명했다.",
+		"야당은 세수 결손 대책이 부족하다며 심사 과정에서 대폭 손질하겠다고 밝혔다.",
+		"국회 예산결산특별위원회는 다음 달부터 본격적인 심사에 착수할 예정이다.",
+		"여당은 법정 기한 내 처리를 목표로 야당과 협의를 이어가겠다는 입장이다.",
+		"전문가들은 경기 둔화 속에 확장 재정의 효과를 면밀히 따져봐야 한다고 지적했다.",
+		"지방교부세 감소에 따른 지방자치단체의 재정 부담도 쟁점으로 떠올랐다."
+	};
+
+	@Test
+	@DisplayName("언론사 머리말/꼬리말만 다른 같은 기사를 찾음")
+	void findNearest_FindsSyndicatedCopy() {
+		// Given
+		String body = String.join(" ", SENTENCES) + " " + String.join(" ", SENTENCES);
+		SimHashIndex<String> index = new SimHashIndex<>(6, 100);
+		index.put(SimHash.of("(서울=연합뉴스) 김철수 기자 = " + body), "original");
+
+		// When
+		var match = index.findNearest(SimHash.of("[머니투데이 이영희 기자] " + body + " ⓒ 머니투데이 무단전재 및 재배포 금지"));
+
+		// Then
+		assertThat(match).isPresent();
+		assertThat(match.get().value()).isEqualTo("original");
+	}
+
+	@Test
+	@DisplayName("내용이 다른 기사는 찾지 않음")
+	void findNearest_IgnoresDifferentArticle() {
+		// Given
+		SimHashIndex<String> index = new SimHashIndex<>(6, 100);
+		index.put(SimHash.of(String.join(" ", SENTENCES)), "budget");
+
+		// When
+		var match = index.findNearest(SimHash.of(
+			"프로야구 LG 트윈스가 한국시리즈 우승을 차지했다. 29년 만의 통합 우승으로 잠실 구장에는 팬 2만여 명이 모여 환호했다. "
+				+ "감독은 선수들이 끝까지 포기하지 않았다고 말했다."));
+
+		// Then
+		assertThat(match).isEmpty();
+	}
+
+	@Test
+	@DisplayName("밴드 하나만 같아도 거리 안의 지문을 찾음")
+	void findNearest_FindsEveryFingerprintWithinDistance() {
+		// Given
+		SimHashIndex<String> index = new SimHashIndex<>(3, 100);
+		long fingerprint = 0x0123_4567_89AB_CDEFL;
+		index.put(fingerprint, "original");
+
+		// When & Then: 서로 다른 세 밴드의 비트를 하나씩 뒤집어도 찾음
+		assertThat(index.findNearest(fingerprint ^ (1L | 1L << 20 | 1L << 40))).isPresent();
+		assertThat(index.findNearest(fingerprint ^ (1L | 1L << 20 | 1L << 40 | 1L << 60))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("뺀 지문은 더 이상 찾지 않음")
+	void remove_DropsEntry() {
+		// Given
+		SimHashIndex<String> index = new SimHashIndex<>(3, 100);
+		index.put(1L, "pending");
+
+		// When
+		boolean removed = index.remove(1L, "pending");
+
+		// Then
+		assertThat(removed).isTrue();
+		assertThat(index.size()).isZero();
+		assertThat(index.findNearest(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("용량을 넘으면 가장 먼저 넣은 지문부터 버림")
+	void put_EvictsOldestBeyondCapacity() {
+		// Given
+		SimHashIndex<String> index = new SimHashIndex<>(3, 2);
+
+		// When
+		index.put(1L, "first");
+		index.put(-1L, "second");
+		index.put(0x5555_5555_5555_5555L, "third");
+
+		// Then
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.findNearest(1L)).isEmpty();
+		assertThat(index.findNearest(-1L)).map(SimHashIndex.Match::value).contains("second");
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.news_service.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdsTest {
+
+	@Test
+	@DisplayName("같은 초에 발급해도 증가하는 ID를 발급")
+	void next_IncreasesWithinSameSecond() {
+		// Given
+		TimeOrderedIds ids = new FixedClockIds(3, 100);
+
+		// When
+		long first = ids.next();
+		long second = ids.next();
+
+		// Then
+		assertThat(second).isEqualTo(first + 1);
+		assertThat(first >>> 21).isEqualTo(100);
+		assertThat((first >>> 16) & 0x1F).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("초 내 순번을 다 쓰면 다음 초 번호로 넘어가고, 시계가 뒤로 가도 감소하지 않음")
+	void next_NeverDecreases() {
+		// Given
+		FixedClockIds ids = new FixedClockIds(0, 100);
+		long previous = 0;
+
+		// When & Then
+		for (int i = 0; i < 70_000; i++) {
+			long id = ids.next();
+			assertThat(id).isGreaterThan(previous);
+			previous = id;
+		}
+		ids.second = 50;
+		assertThat(ids.next()).isGreaterThan(previous);
+	}
+
+	@Test
+	@DisplayName("JavaScript 에서 정확히 표현되는 53비트 이내 값")
+	void next_FitsInJavaScriptSafeInteger() {
+		assertThat(new FixedClockIds(31, 0xFFFF_FFFEL).next()).isLessThan(1L << 53);
+	}
+
+	private static class FixedClockIds extends TimeOrderedIds {
+		private long second;
+
+		FixedClockIds(long node, long second) {
+			super(node);
+			this.second = second;
+		}
+
+		@Override
+		long currentSecond() {
+			return second;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.news_service.news.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.example.news_service.news.client.NaverNewsClient;
+import com.example.news_service.news.repository.NewsRepository;
+import com.example.news_service.news.service.CrawledNewsWriter;
+import com.example.news_service.news.service.NewsArticleProcessor;
+import com.example.news_service.news.service.NewsCrawlingService;
+
+/**
+ * 네이버/언론사/OpenAI 를 로컬 대역 서버(OfflineCrawlServer)로 바꿔 crawlAllCategories 전체 경로의 처리량과 단계별 지연을 잽니다.
+ * 기본 test 태스크에서는 빠지며 ./gradlew crawlBenchmark 로 실행합니다. 저장에는 설정된 데이터소스를 그대로 씁니다.
+ * <ul>
+ *   <li>benchmark.rounds - 측정할 crawlAllCategories 반복 횟수 (기본 5, 워밍업 1회 별도)</li>
+ *   <li>benchmark.pipeline - 파이프라인 모드로 실행할지 (기본 true)</li>
+ *   <li>benchmark.publisher.latency-ms / jitter-ms / error-rate - 언론사 응답 지연과 503 비율</li>
+ *   <li>benchmark.gpt.latency-ms - OpenAI 응답 지연</li>
+ * </ul>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"news.crawl.category-interval=0s",
+	"news.crawl.frontier.enabled=false",
+	"news.archive.enabled=false",
+	// 대역 기사는 본문이 서로 비슷해서, 켜 두면 요약을 재사용하느라 GPT 단계를 거의 거치지 않음
+	"news.dedup.near.enabled=false",
+	// 모든 기사가 127.0.0.1 한 호스트에 있으므로 호스트별 제한을 풀어 둠
+	"news.scraper.per-host.requests-per-second=100000",
+	"news.scraper.per-host.burst=100000",
+	"news.scraper.per-host.max-concurrency=256"
+})
+class CrawlBenchmarkTest {
+
+	private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 5);
+
+	private static OfflineCrawlServer server;
+
+	private final StageLatencies latencies = new StageLatencies();
+
+	@Autowired
+	private NewsCrawlingService newsCrawlingService;
+
+	@Autowired
+	private NewsRepository newsRepository;
+
+	@MockitoSpyBean
+	private NaverNewsClient naverNewsClient;
+
+	@MockitoSpyBean
+	private NewsArticleProcessor newsArticleProcessor;
+
+	@MockitoSpyBean
+	private CrawledNewsWriter crawledNewsWriter;
+
+	@DynamicPropertySource
+	static void offlineEndpoints(DynamicPropertyRegistry registry) throws IOException {
+		server = OfflineCrawlServer.start(OfflineCrawlServer.Settings.fromSystemProperties());
+		registry.add("naver.news.api-url", server::naverApiUrl);
+		registry.add("naver.news.client-id", () -> "offline");
+		registry.add("naver.news.client-secret", () -> "offline");
+		registry.add("openai.base-url", server::openAiBaseUrl);
+		registry.add("openai.api-key", () -> "offline");
+		registry.add("news.crawl.pipeline.enabled", () -> System.getProperty("benchmark.pipeline", "true"));
+	}
+
+	@AfterAll
+	static void stopServer() {
+		server.close();
+	}
+
+	@BeforeEach
+	void setUp() {
+		doAnswer(latencies.timed("fetch")).when(naverNewsClient).fetchNewsFromNaver(any(), anyInt(), any());
+		doAnswer(latencies.timed("scrape")).when(newsArticleProcessor).scrape(any());
+		doAnswer(latencies.timed("summarize")).when(newsArticleProcessor).summarize(any());
+		doAnswer(latencies.timed("persist")).when(crawledNewsWriter).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("전체 카테고리 크롤링의 처리량과 단계별 지연 측정")
+	void crawlAllCategories() {
+		// Given: 워밍업 1회는 측정에서 뺌
+		newsCrawlingService.crawlAllCategories();
+		latencies.reset();
+		long savedBefore = newsRepository.count();
+
+		// When
+		long startedAt = System.nanoTime();
+		for (int round = 0; round < ROUNDS; round++) {
+			newsCrawlingService.crawlAllCategories();
+		}
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+		long saved = newsRepository.count() - savedBefore;
+
+		// Then
+		System.out.printf("%n[crawl benchmark] %d회, %dms, 저장 %d건, %.2f articles/sec%n",
+			ROUNDS, elapsed.toMillis(), saved, saved / (elapsed.toNanos() / 1e9));
+		System.out.print(latencies.report());
+		System.out.println("  대역 서버 요청: " + server.summary());
+		assertThat(saved).isPositive();
+	}
+}
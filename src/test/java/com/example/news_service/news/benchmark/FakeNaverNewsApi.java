@@ -0,0 +1,70 @@
+package com.example.news_service.news.benchmark;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * 네이버 뉴스 검색 API 대역. 녹화해 둔 응답(benchmark/naver-news.json)의 기사를 돌려 쓰되,
+ * 매번 새 기사로 보이도록 링크는 언론사 대역의 새 주소로, 발행 시각은 현재 시각으로 바꿉니다.
+ */
+class FakeNaverNewsApi implements HttpHandler {
+
+	static final String PATH = "/v1/search/news.json";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<ObjectNode> recordedItems = new ArrayList<>();
+	private final String articleBaseUrl;
+	private final AtomicLong articleSequence;
+	private final AtomicInteger requestCount = new AtomicInteger();
+
+	FakeNaverNewsApi(String articleBaseUrl, AtomicLong articleSequence) throws IOException {
+		this.articleBaseUrl = articleBaseUrl;
+		this.articleSequence = articleSequence;
+		JsonNode recorded = objectMapper.readTree(OfflineCrawlServer.readResource("naver-news.json"));
+		recorded.get("items").forEach(item -> recordedItems.add((ObjectNode) item));
+	}
+
+	@Override
+	public void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		int display = OfflineCrawlServer.queryParam(exchange.getRequestURI(), "display")
+			.map(Integer::parseInt)
+			.orElse(10);
+		int start = OfflineCrawlServer.queryParam(exchange.getRequestURI(), "start")
+			.map(Integer::parseInt)
+			.orElse(1);
+		String now = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+		ObjectNode response = objectMapper.createObjectNode()
+			.put("lastBuildDate", now)
+			.put("total", 100_000)
+			.put("start", start)
+			.put("display", display);
+		ArrayNode items = response.putArray("items");
+		for (int i = 0; i < display; i++) {
+			String url = articleBaseUrl + articleSequence.incrementAndGet();
+			items.add(recordedItems.get(i % recordedItems.size()).deepCopy()
+				.put("originallink", url)
+				.put("link", url)
+				.put("pubDate", now));
+		}
+		OfflineCrawlServer.send(exchange, 200, "application/json; charset=UTF-8", objectMapper.writeValueAsBytes(response));
+	}
+
+	int getRequestCount() {
+		return requestCount.get();
+	}
+}
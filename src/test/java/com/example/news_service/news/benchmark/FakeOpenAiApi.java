@@ -0,0 +1,65 @@
+package com.example.news_service.news.benchmark;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * OpenAI 채팅 완성 API(/v1/chat/completions) 대역. latency 만큼 기다린 뒤 고정된 요약을 돌려줍니다.
+ * 토큰 사용량은 프롬프트 길이로 어림합니다.
+ */
+class FakeOpenAiApi implements HttpHandler {
+
+	static final String PATH = "/v1/chat/completions";
+
+	private static final String SUMMARY = """
+		## 오늘의 뉴스, 무슨 일이 있었을까?
+		• **핵심**: 로컬 대역 서버가 만든 요약입니다.
+		• **배경**: 크롤링 벤치마크에서 OpenAI 를 호출하지 않으려고 씁니다.
+		""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Duration latency;
+	private final AtomicInteger requestCount = new AtomicInteger();
+
+	FakeOpenAiApi(Duration latency) {
+		this.latency = latency;
+	}
+
+	@Override
+	public void handle(HttpExchange exchange) throws IOException {
+		int id = requestCount.incrementAndGet();
+		JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+		int promptTokens = request.path("messages").path(0).path("content").asText().length() / 2;
+		int completionTokens = SUMMARY.length() / 2;
+		OfflineCrawlServer.sleep(latency);
+
+		ObjectNode response = objectMapper.createObjectNode()
+			.put("id", "chatcmpl-offline-" + id)
+			.put("object", "chat.completion")
+			.put("created", Instant.now().getEpochSecond())
+			.put("model", request.path("model").asText("gpt-3.5-turbo"));
+		ObjectNode choice = response.putArray("choices").addObject()
+			.put("index", 0)
+			.put("finish_reason", "stop");
+		choice.putObject("message")
+			.put("role", "assistant")
+			.put("content", SUMMARY);
+		response.putObject("usage")
+			.put("prompt_tokens", promptTokens)
+			.put("completion_tokens", completionTokens)
+			.put("total_tokens", promptTokens + completionTokens);
+		OfflineCrawlServer.send(exchange, 200, "application/json", objectMapper.writeValueAsBytes(response));
+	}
+
+	int getRequestCount() {
+		return requestCount.get();
+	}
+}
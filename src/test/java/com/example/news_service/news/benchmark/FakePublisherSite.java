@@ -0,0 +1,72 @@
+package com.example.news_service.news.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * 언론사 기사 페이지 대역. /article/{번호} 요청에 녹화해 둔 기사 HTML(benchmark/publisher/*.html)을 돌려가며 응답합니다.
+ * 응답마다 latency ± jitter 만큼 지연하고, errorRate 비율로 503 을 돌려줍니다.
+ * 기사 번호를 본문에 넣어 기사마다 본문이 조금씩 다릅니다.
+ */
+class FakePublisherSite implements HttpHandler {
+
+	static final String PATH = "/article/";
+
+	private static final List<String> PAGES = List.of(
+		"publisher/naver-news.html",
+		"publisher/article-view.html",
+		"publisher/article-body.html");
+
+	private final List<String> pages;
+	private final Duration latency;
+	private final Duration jitter;
+	private final double errorRate;
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final AtomicInteger errorCount = new AtomicInteger();
+
+	FakePublisherSite(Duration latency, Duration jitter, double errorRate) {
+		this.pages = PAGES.stream().map(OfflineCrawlServer::readResource).toList();
+		this.latency = latency;
+		this.jitter = jitter;
+		this.errorRate = errorRate;
+	}
+
+	@Override
+	public void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		long articleId;
+		try {
+			articleId = Long.parseLong(exchange.getRequestURI().getPath().substring(PATH.length()));
+		} catch (NumberFormatException e) {
+			OfflineCrawlServer.send(exchange, 404, "text/plain; charset=UTF-8", new byte[0]);
+			return;
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long jitterMillis = jitter.isZero() ? 0 : random.nextLong(-jitter.toMillis(), jitter.toMillis() + 1);
+		OfflineCrawlServer.sleep(Duration.ofMillis(Math.max(0, latency.toMillis() + jitterMillis)));
+
+		if (random.nextDouble() < errorRate) {
+			errorCount.incrementAndGet();
+			OfflineCrawlServer.send(exchange, 503, "text/plain; charset=UTF-8", new byte[0]);
+			return;
+		}
+		String html = pages.get((int) (articleId % pages.size())).replace("{{articleId}}", String.valueOf(articleId));
+		OfflineCrawlServer.send(exchange, 200, "text/html; charset=UTF-8", html.getBytes(StandardCharsets.UTF_8));
+	}
+
+	int getRequestCount() {
+		return requestCount.get();
+	}
+
+	int getErrorCount() {
+		return errorCount.get();
+	}
+}
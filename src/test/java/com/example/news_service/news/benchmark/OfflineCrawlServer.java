@@ -0,0 +1,141 @@
+package com.example.news_service.news.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 크롤링 벤치마크용 로컬 HTTP 서버. 네이버 검색 API, 언론사 기사 페이지, OpenAI API 대역을 한 포트에 함께 띄웁니다.
+ * 요청마다 가상 스레드 하나로 처리하므로 지연을 크게 줘도 동시 요청이 막히지 않습니다.
+ */
+public class OfflineCrawlServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final FakeNaverNewsApi naverNewsApi;
+	private final FakePublisherSite publisherSite;
+	private final FakeOpenAiApi openAiApi;
+
+	private OfflineCrawlServer(Settings settings) throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		AtomicLong articleSequence = new AtomicLong();
+		this.naverNewsApi = new FakeNaverNewsApi(baseUrl() + FakePublisherSite.PATH, articleSequence);
+		this.publisherSite = new FakePublisherSite(settings.publisherLatency(), settings.publisherJitter(),
+			settings.publisherErrorRate());
+		this.openAiApi = new FakeOpenAiApi(settings.gptLatency());
+
+		server.createContext(FakeNaverNewsApi.PATH, naverNewsApi);
+		server.createContext(FakePublisherSite.PATH, publisherSite);
+		server.createContext(FakeOpenAiApi.PATH, openAiApi);
+		server.setExecutor(executor);
+	}
+
+	public static OfflineCrawlServer start(Settings settings) throws IOException {
+		OfflineCrawlServer offlineServer = new OfflineCrawlServer(settings);
+		offlineServer.server.start();
+		return offlineServer;
+	}
+
+	public String naverApiUrl() {
+		return baseUrl() + FakeNaverNewsApi.PATH;
+	}
+
+	/**
+	 * openai.base-url 에 넣을 주소 (끝에 / 포함)
+	 */
+	public String openAiBaseUrl() {
+		return baseUrl() + "/";
+	}
+
+	public String summary() {
+		return String.format("네이버 %d건, 언론사 %d건(오류 %d건), OpenAI %d건",
+			naverNewsApi.getRequestCount(), publisherSite.getRequestCount(), publisherSite.getErrorCount(),
+			openAiApi.getRequestCount());
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private String baseUrl() {
+		InetSocketAddress address = server.getAddress();
+		return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+	}
+
+	static Optional<String> queryParam(URI uri, String name) {
+		String query = uri.getRawQuery();
+		if (query == null) {
+			return Optional.empty();
+		}
+		for (String pair : query.split("&")) {
+			int separator = pair.indexOf('=');
+			if (separator > 0 && pair.substring(0, separator).equals(name)) {
+				return Optional.of(URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+			}
+		}
+		return Optional.empty();
+	}
+
+	static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	static String readResource(String name) {
+		try (InputStream in = OfflineCrawlServer.class.getResourceAsStream("/benchmark/" + name)) {
+			if (in == null) {
+				throw new IllegalStateException("벤치마크 리소스가 없습니다: " + name);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static void sleep(Duration delay) {
+		if (delay.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 대역 서버 설정. 시스템 속성 benchmark.* 로 바꿀 수 있습니다.
+	 */
+	public record Settings(Duration publisherLatency, Duration publisherJitter, double publisherErrorRate,
+		Duration gptLatency) {
+
+		public static Settings fromSystemProperties() {
+			return new Settings(
+				Duration.ofMillis(Long.getLong("benchmark.publisher.latency-ms", 80)),
+				Duration.ofMillis(Long.getLong("benchmark.publisher.jitter-ms", 40)),
+				Double.parseDouble(System.getProperty("benchmark.publisher.error-rate", "0.02")),
+				Duration.ofMillis(Long.getLong("benchmark.gpt.latency-ms", 800)));
+		}
+	}
+}
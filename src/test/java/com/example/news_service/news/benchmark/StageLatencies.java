@@ -0,0 +1,56 @@
+package com.example.news_service.news.benchmark;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.stubbing.Answer;
+
+/**
+ * 단계별 처리 시간을 모두 모아 두었다가 백분위수를 계산합니다.
+ * 스파이 빈의 메서드를 timed(stage) 로 감싸면 실제 메서드를 호출하면서 걸린 시간을 기록합니다.
+ */
+class StageLatencies {
+
+	private final Map<String, Queue<Long>> samples = new ConcurrentHashMap<>();
+
+	Answer<Object> timed(String stage) {
+		return invocation -> {
+			long startedAt = System.nanoTime();
+			try {
+				return invocation.callRealMethod();
+			} finally {
+				samples.computeIfAbsent(stage, key -> new ConcurrentLinkedQueue<>()).add(System.nanoTime() - startedAt);
+			}
+		};
+	}
+
+	void reset() {
+		samples.clear();
+	}
+
+	/**
+	 * 단계 이름순으로 건수와 p50/p95/p99/최대 지연(ms)을 정리합니다.
+	 */
+	String report() {
+		StringBuilder report = new StringBuilder();
+		new TreeMap<>(samples).forEach((stage, values) -> {
+			long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+			report.append(String.format("  %-10s n=%-6d p50=%8.1fms p95=%8.1fms p99=%8.1fms max=%8.1fms%n",
+				stage, sorted.length, millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99), millis(sorted, 1.0)));
+		});
+		return report.toString();
+	}
+
+	private static double millis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile * sorted.length);
+		long nanos = sorted[Math.max(0, rank - 1)];
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
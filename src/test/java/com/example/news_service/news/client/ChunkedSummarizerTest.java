@@ -0,0 +1,101 @@
+package com.example.news_service.news.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.FailureKind;
+import com.example.news_service.news.client.GptRequestScheduler.Priority;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedSummarizerTest {
+
+	private static final String SENTENCE = "정부는 18일 내년도 예산안을 국회에 제출했다. ";
+
+	@Mock
+	private GptRequestScheduler gptRequestScheduler;
+
+	@Test
+	@DisplayName("본문은 문장 경계에서 나뉘고 조각마다 토큰 한도를 넘지 않음")
+	void split_RespectsTokenBudget() {
+		// Given
+		String content = SENTENCE.repeat(40);
+
+		// When
+		List<String> chunks = ChunkedSummarizer.split(content, 100);
+
+		// Then
+		assertThat(chunks).hasSizeGreaterThan(1);
+		assertThat(chunks).allSatisfy(chunk -> {
+			assertThat(TokenEstimator.estimate(chunk)).isLessThanOrEqualTo(100);
+			assertThat(chunk).endsWith("제출했다.");
+		});
+	}
+
+	@Test
+	@DisplayName("짧은 본문은 나누지 않고 한 번만 요약")
+	void summarize_ShortContentSkipsChunking() {
+		// Given
+		ChunkedSummarizer summarizer = new ChunkedSummarizer(gptRequestScheduler, new SimpleMeterRegistry(), 1000, 100, 4);
+		when(gptRequestScheduler.summarize(PromptTemplate.NEWS_SUMMARY, SENTENCE, Priority.BULK))
+			.thenReturn(CompletableFuture.completedFuture(CallResult.success("요약")));
+
+		// When
+		CallResult<String> result = summarizer.summarize(PromptTemplate.NEWS_SUMMARY, SENTENCE, Priority.BULK).join();
+
+		// Then
+		assertThat(result.getOrThrow()).isEqualTo("요약");
+		verify(gptRequestScheduler, never()).summarize(eq(PromptTemplate.ARTICLE_PART), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("긴 본문은 최대 조각 수만큼 나눠 요약한 뒤 조각 요약을 합쳐 다시 요약")
+	void summarize_LongContentMapsThenReduces() {
+		// Given
+		ChunkedSummarizer summarizer = new ChunkedSummarizer(gptRequestScheduler, new SimpleMeterRegistry(), 100, 100, 3);
+		when(gptRequestScheduler.summarize(eq(PromptTemplate.ARTICLE_PART), anyString(), eq(Priority.BULK)))
+			.thenReturn(CompletableFuture.completedFuture(CallResult.success("• 조각 요약")));
+		when(gptRequestScheduler.summarize(eq(PromptTemplate.NEWS_SUMMARY), anyString(), eq(Priority.BULK)))
+			.thenReturn(CompletableFuture.completedFuture(CallResult.success("최종 요약")));
+
+		// When
+		CallResult<String> result = summarizer.summarize(PromptTemplate.NEWS_SUMMARY, SENTENCE.repeat(40), Priority.BULK)
+			.join();
+
+		// Then
+		assertThat(result.getOrThrow()).isEqualTo("최종 요약");
+		verify(gptRequestScheduler, times(3)).summarize(eq(PromptTemplate.ARTICLE_PART), anyString(), eq(Priority.BULK));
+		verify(gptRequestScheduler).summarize(PromptTemplate.NEWS_SUMMARY, "• 조각 요약\n\n• 조각 요약\n\n• 조각 요약",
+			Priority.BULK);
+	}
+
+	@Test
+	@DisplayName("조각 요약이 하나라도 실패하면 합치지 않고 그 실패를 돌려줌")
+	void summarize_FailsWhenAnyPartFails() {
+		// Given
+		ChunkedSummarizer summarizer = new ChunkedSummarizer(gptRequestScheduler, new SimpleMeterRegistry(), 100, 100, 3);
+		when(gptRequestScheduler.summarize(eq(PromptTemplate.ARTICLE_PART), anyString(), eq(Priority.BULK)))
+			.thenReturn(CompletableFuture.completedFuture(CallResult.failure(FailureKind.RATE_LIMITED, "429")));
+
+		// When
+		CallResult<String> result = summarizer.summarize(PromptTemplate.NEWS_SUMMARY, SENTENCE.repeat(40), Priority.BULK)
+			.join();
+
+		// Then
+		assertThat(result).isInstanceOfSatisfying(CallResult.Failure.class,
+			failure -> assertThat(failure.kind()).isEqualTo(FailureKind.RATE_LIMITED));
+		verify(gptRequestScheduler, never()).summarize(eq(PromptTemplate.NEWS_SUMMARY), anyString(), any());
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.news_service.news.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.FailureKind;
+import com.example.news_service.common.resilience.RetryPolicy;
+import com.example.news_service.news.client.GptRequestScheduler.Priority;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GptRequestSchedulerTest {
+
+	private GptRequestScheduler scheduler;
+
+	@AfterEach
+	void tearDown() {
+		scheduler.stop();
+	}
+
+	@Test
+	@DisplayName("대기 중인 요청은 사용자 분석이 크롤링 요약보다 먼저 실행됨")
+	void submit_RunsInteractiveBeforeBulk() throws Exception {
+		// Given: 한 번에 하나만 실행하고, 첫 요청이 끝나지 않도록 막아 둠
+		scheduler = new GptRequestScheduler(null, new SimpleMeterRegistry(), 6000, 1_000_000, Duration.ofSeconds(10),
+			1, 100, Duration.ofSeconds(1));
+		scheduler.start();
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		CompletableFuture<CallResult<String>> blocking = scheduler.submit(Priority.BULK, 10, () -> {
+			awaitQuietly(release);
+			return CallResult.success("blocking");
+		});
+		CompletableFuture<CallResult<String>> bulk = scheduler.submit(Priority.BULK, 10, () -> {
+			order.add("bulk");
+			return CallResult.success("bulk");
+		});
+		CompletableFuture<CallResult<String>> interactive = scheduler.submit(Priority.INTERACTIVE, 10, () -> {
+			order.add("interactive");
+			return CallResult.success("interactive");
+		});
+
+		// When
+		release.countDown();
+		CompletableFuture.allOf(blocking, bulk, interactive).get(5, TimeUnit.SECONDS);
+
+		// Then
+		assertThat(order).containsExactly("interactive", "bulk");
+		assertThat(interactive.get().getOrThrow()).isEqualTo("interactive");
+	}
+
+	@Test
+	@DisplayName("분당 요청 수 한도를 넘는 요청은 예산이 찰 때까지 기다림")
+	void submit_WaitsForRequestBudget() throws Exception {
+		// Given: 분당 600회(초당 10회), 순간 허용 100ms → 한 번에 1개씩 100ms 간격
+		scheduler = new GptRequestScheduler(null, new SimpleMeterRegistry(), 600, 1_000_000, Duration.ofMillis(100),
+			8, 100, Duration.ofSeconds(1));
+		scheduler.start();
+		long startedAt = System.nanoTime();
+
+		// When
+		List<CompletableFuture<CallResult<String>>> futures = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			futures.add(scheduler.submit(Priority.BULK, 10, () -> CallResult.success("ok")));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+		// Then
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 기다리지 않고 BULKHEAD_FULL 로 실패")
+	void submit_RejectsWhenQueueFull() throws Exception {
+		// Given: 디스패처를 시작하지 않아 요청이 대기열에 남음
+		scheduler = new GptRequestScheduler(null, new SimpleMeterRegistry(), 600, 1_000_000, Duration.ofSeconds(10),
+			1, 1, Duration.ofSeconds(1));
+		scheduler.submit(Priority.BULK, 10, () -> CallResult.success("queued"));
+
+		// When
+		CallResult<String> rejected = scheduler.<String>submit(Priority.INTERACTIVE, 10, () -> CallResult.success("x"))
+			.get(1, TimeUnit.SECONDS);
+
+		// Then
+		assertThat(rejected).isInstanceOfSatisfying(CallResult.Failure.class,
+			failure -> assertThat(failure.kind()).isEqualTo(FailureKind.BULKHEAD_FULL));
+	}
+
+	@Test
+	@DisplayName("다시 시도할 수 있는 실패는 대기열에 다시 넣고, 재시도마다 요청 예산을 다시 차감")
+	void submit_RequeuesRetryableFailureUnderBudget() throws Exception {
+		// Given: 분당 600회(초당 10회), 순간 허용 100ms → 시도마다 100ms 간격
+		GptApiClient gptApiClient = mock(GptApiClient.class);
+		when(gptApiClient.retryPolicy()).thenReturn(new RetryPolicy(3, Duration.ZERO, Duration.ZERO));
+		scheduler = new GptRequestScheduler(gptApiClient, new SimpleMeterRegistry(), 600, 1_000_000,
+			Duration.ofMillis(100), 8, 100, Duration.ofSeconds(1));
+		scheduler.start();
+		AtomicInteger attempts = new AtomicInteger();
+		long startedAt = System.nanoTime();
+
+		// When
+		CallResult<String> result = scheduler.<String>submit(Priority.BULK, 10, () -> attempts.incrementAndGet() < 3
+				? CallResult.failure(FailureKind.SERVER_ERROR, "503")
+				: CallResult.success("ok"))
+			.get(5, TimeUnit.SECONDS);
+
+		// Then
+		assertThat(result.getOrThrow()).isEqualTo("ok");
+		assertThat(attempts).hasValue(3);
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
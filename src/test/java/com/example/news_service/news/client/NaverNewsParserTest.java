@@ -0,0 +1,66 @@
+package com.example.news_service.news.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class NaverNewsParserTest {
+
+	private final NaverNewsParser parser = new NaverNewsParser(new ObjectMapper());
+
+	@Test
+	@DisplayName("items 배열의 아이템을 News 로 변환하고 다른 필드는 건너뜀")
+	void parse_MapsItems() {
+		// Given
+		String body = """
+			{"lastBuildDate":"Wed, 25 Jun 2025 15:00:00 +0900","total":2,"start":1,"display":2,
+			 "items":[
+			  {"title":"연합뉴스 | <b>정치</b> 개혁 &quot;속도&quot;","originallink":"https://news.example.com/1",
+			   "link":"https://n.news.naver.com/1","description":"<b>설명</b>","pubDate":"Wed, 25 Jun 2025 14:30:00 +0900"},
+			  {"title":"제목","originallink":"","link":"https://n.news.naver.com/2","description":"","pubDate":"Wed, 25 Jun 2025 14:00:00 +0900"}
+			 ]}
+			""";
+
+		// When
+		List<News> newsList = parser.parse(body, NewsCategory.POLITICS);
+
+		// Then
+		assertThat(newsList).hasSize(2);
+		News first = newsList.get(0);
+		assertThat(first.getTitle()).isEqualTo("연합뉴스 | 정치 개혁 \"속도\"");
+		assertThat(first.getSource()).isEqualTo("연합뉴스");
+		assertThat(first.getOriginalUrl()).isEqualTo("https://news.example.com/1");
+		assertThat(first.getPublishedAt()).isEqualTo(LocalDateTime.of(2025, 6, 25, 14, 30));
+		assertThat(first.getCategory()).isEqualTo(NewsCategory.POLITICS);
+		assertThat(newsList.get(1).getOriginalUrl()).isEqualTo("https://n.news.naver.com/2");
+		assertThat(newsList.get(1).getSource()).isEqualTo("네이버뉴스");
+	}
+
+	@Test
+	@DisplayName("필수 필드가 없는 아이템은 건너뜀")
+	void parse_SkipsIncompleteItems() {
+		// Given
+		String body = """
+			{"items":[{"title":"발행일 없음","link":"https://n.news.naver.com/1"}]}
+			""";
+
+		// When & Then
+		assertThat(parser.parse(body, NewsCategory.POLITICS)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("태그 제거와 엔티티 복원을 한 번에 처리")
+	void toPlainText_StripsTagsAndDecodesEntities() {
+		assertThat(NaverNewsParser.toPlainText(" <b>A</b> &amp; B &lt;C&gt; &#39;D&#39; &#x41; "))
+			.isEqualTo("A & B <C> 'D' A");
+		assertThat(NaverNewsParser.toPlainText("1 < 2 &unknown; &")).isEqualTo("1 < 2 &unknown; &");
+	}
+}
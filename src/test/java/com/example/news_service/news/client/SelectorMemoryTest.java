@@ -0,0 +1,100 @@
+package com.example.news_service.news.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SelectorMemoryTest {
+
+	private static final String[] SELECTORS = {"a", "b", "c"};
+
+	@Test
+	@DisplayName("성공한 선택자를 기억해 다음에는 한 번만 시도")
+	void firstMatch_TriesRememberedSelectorFirst() {
+		// Given
+		SelectorMemory memory = new SelectorMemory("content", SELECTORS, 10, new SimpleMeterRegistry());
+		List<Integer> attempts = new ArrayList<>();
+		memory.firstMatch("news.example.com", index -> {
+			attempts.add(index);
+			return index == 2 ? "본문" : null;
+		});
+		attempts.clear();
+
+		// When
+		String result = memory.firstMatch("news.example.com", index -> {
+			attempts.add(index);
+			return index == 2 ? "본문" : null;
+		});
+
+		// Then
+		assertThat(result).isEqualTo("본문");
+		assertThat(attempts).containsExactly(2);
+		assertThat(memory.hitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("기억한 선택자가 실패하면 나머지를 우선순위대로 시도")
+	void firstMatch_FallsBackInPriorityOrder() {
+		// Given
+		SelectorMemory memory = new SelectorMemory("content", SELECTORS, 10, new SimpleMeterRegistry());
+		memory.firstMatch("news.example.com", index -> index == 2 ? "본문" : null);
+		List<Integer> attempts = new ArrayList<>();
+
+		// When
+		String result = memory.firstMatch("news.example.com", index -> {
+			attempts.add(index);
+			return index == 1 ? "본문" : null;
+		});
+
+		// Then
+		assertThat(result).isEqualTo("본문");
+		assertThat(attempts).containsExactly(2, 0, 1);
+	}
+
+	@Test
+	@DisplayName("마지막 대안 선택자로 찾은 결과는 기억하지 않아 다음에도 우선순위대로 시도")
+	void firstMatch_DoesNotRememberFallbackSelector() {
+		// Given
+		SelectorMemory memory = new SelectorMemory("image", SELECTORS, 2, 10, new SimpleMeterRegistry());
+		memory.firstMatch("news.example.com", index -> index == 2 ? "아무 이미지" : null);
+		List<Integer> attempts = new ArrayList<>();
+
+		// When
+		String result = memory.firstMatch("news.example.com", index -> {
+			attempts.add(index);
+			return index == 0 ? "대표 이미지" : null;
+		});
+
+		// Then
+		assertThat(result).isEqualTo("대표 이미지");
+		assertThat(attempts).containsExactly(0);
+	}
+
+	@Test
+	@DisplayName("호스트 수가 최대치를 넘으면 가장 오래 쓰지 않은 호스트를 버림")
+	void firstMatch_EvictsLeastRecentlyUsedHost() {
+		// Given
+		SelectorMemory memory = new SelectorMemory("content", SELECTORS, 2, new SimpleMeterRegistry());
+		memory.firstMatch("a.com", index -> "x");
+		memory.firstMatch("b.com", index -> "x");
+		memory.firstMatch("a.com", index -> "x");
+
+		// When
+		memory.firstMatch("c.com", index -> "x");
+
+		// Then
+		assertThat(memory.size()).isEqualTo(2);
+		List<Integer> attempts = new ArrayList<>();
+		memory.firstMatch("b.com", index -> {
+			attempts.add(index);
+			return null;
+		});
+		assertThat(attempts).containsExactly(0, 1, 2);
+	}
+}
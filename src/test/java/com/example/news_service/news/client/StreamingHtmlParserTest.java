@@ -0,0 +1,71 @@
+package com.example.news_service.news.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StreamingHtmlParserTest {
+
+	private static final String[] SELECTORS = {"article#dic_area", "div.article_body"};
+
+	@Test
+	@DisplayName("head 와 본문을 찾으면 나머지는 파싱하지 않음")
+	void parse_StopsAfterHeadAndContent() throws Exception {
+		// Given
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		StreamingHtmlParser parser = new StreamingHtmlParser(1024 * 1024, SELECTORS, registry);
+		String html = "<html><head><meta property=\"og:image\" content=\"https://img.example.com/a.jpg\"></head>"
+			+ "<body><article id=\"dic_area\">본문입니다<script>track()</script></article>"
+			+ "<div id=\"comments\">댓글</div></body></html>";
+
+		// When
+		Document document = parser.parse(new ByteArrayInputStream(html.getBytes("UTF-8")), "UTF-8", "https://n.news.naver.com/");
+
+		// Then
+		assertThat(document.select("meta[property=og:image]").attr("content")).isEqualTo("https://img.example.com/a.jpg");
+		assertThat(document.select("article#dic_area").text()).isEqualTo("본문입니다");
+		assertThat(document.select("script")).isEmpty();
+		assertThat(document.select("div#comments")).isEmpty();
+		assertThat(registry.counter("news.scraper.parse.pages", "result", "early_stop").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘는 응답은 앞부분만 파싱함")
+	void parse_TruncatesOversizedBody() throws Exception {
+		// Given
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		StreamingHtmlParser parser = new StreamingHtmlParser(64, SELECTORS, registry);
+		String html = "<html><head><title>제목</title></head><body><p>" + "가".repeat(1000) + "</p></body></html>";
+
+		// When
+		Document document = parser.parse(new ByteArrayInputStream(html.getBytes("UTF-8")), "UTF-8", "https://example.com/");
+
+		// Then
+		assertThat(document.title()).isEqualTo("제목");
+		assertThat(document.body().text().length()).isLessThan(64);
+		assertThat(registry.counter("news.scraper.parse.pages", "result", "truncated").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Content-Type 에 charset 이 없으면 meta 태그에서 찾음")
+	void sniffCharset_ReadsMetaCharset() throws Exception {
+		// Given
+		byte[] html = "<html><head><meta charset=\"EUC-KR\"></head><body>한글</body></html>".getBytes("EUC-KR");
+		BufferedInputStream input = new BufferedInputStream(new ByteArrayInputStream(html), 4096);
+
+		// When
+		Charset charset = StreamingHtmlParser.sniffCharset(input);
+
+		// Then
+		assertThat(charset).isEqualTo(Charset.forName("EUC-KR"));
+		assertThat(input.readAllBytes()).isEqualTo(html);
+	}
+}
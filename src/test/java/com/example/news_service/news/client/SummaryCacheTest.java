@@ -0,0 +1,79 @@
+package com.example.news_service.news.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.news_service.news.entity.SummaryCacheEntry;
+import com.example.news_service.news.repository.SummaryCacheRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryCacheTest {
+
+	@Mock
+	private SummaryCacheRepository summaryCacheRepository;
+
+	@Test
+	@DisplayName("공백만 다른 본문은 같은 키, 템플릿이나 모델이 다르면 다른 키")
+	void key_NormalizesWhitespace() {
+		// Given
+		String content = "정부는 18일 내년도 예산안을\n국회에 제출했다.";
+		String spaced = "  정부는 18일   내년도 예산안을 국회에\t제출했다. ";
+
+		// When & Then
+		String key = SummaryCache.key("gpt-3.5-turbo", PromptTemplate.NEWS_SUMMARY, content);
+		assertThat(SummaryCache.key("gpt-3.5-turbo", PromptTemplate.NEWS_SUMMARY, spaced)).isEqualTo(key);
+		assertThat(SummaryCache.key("gpt-4o", PromptTemplate.NEWS_SUMMARY, content)).isNotEqualTo(key);
+		assertThat(SummaryCache.key("gpt-3.5-turbo", PromptTemplate.custom("세 줄로 요약해 줘"), content)).isNotEqualTo(key);
+	}
+
+	@Test
+	@DisplayName("DB 에서 찾은 요약은 메모리에 올려 다음에는 DB 를 조회하지 않음")
+	void find_PromotesDbHitToMemory() {
+		// Given
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		SummaryCache cache = new SummaryCache(summaryCacheRepository, registry, true, 10);
+		when(summaryCacheRepository.findById("key"))
+			.thenReturn(Optional.of(new SummaryCacheEntry("key", "gpt-3.5-turbo", "요약")));
+
+		// When
+		Optional<String> first = cache.find("key");
+		Optional<String> second = cache.find("key");
+
+		// Then
+		assertThat(first).contains("요약");
+		assertThat(second).contains("요약");
+		verify(summaryCacheRepository, times(1)).findById("key");
+		assertThat(registry.counter("news.summary.cache.lookups", "tier", "memory", "result", "hit").count()).isEqualTo(1);
+		assertThat(registry.counter("news.summary.cache.lookups", "tier", "db", "result", "hit").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("메모리 계층은 가장 오래 쓰지 않은 요약부터 버림")
+	void put_EvictsLeastRecentlyUsed() {
+		// Given
+		SummaryCache cache = new SummaryCache(summaryCacheRepository, new SimpleMeterRegistry(), true, 2);
+		cache.put("a", "gpt-3.5-turbo", "요약 A");
+		cache.put("b", "gpt-3.5-turbo", "요약 B");
+		cache.find("a");
+
+		// When
+		cache.put("c", "gpt-3.5-turbo", "요약 C");
+
+		// Then
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.find("b")).isEmpty();
+		verify(summaryCacheRepository).findById("b");
+		verify(summaryCacheRepository, never()).findById(eq("a"));
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.news_service.news.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+import com.example.news_service.news.entity.CrawlWatermark;
+import com.example.news_service.news.repository.CrawlWatermarkRepository;
+import com.example.news_service.news.repository.NewsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlWatermarkServiceTest {
+
+	private static final LocalDateTime NOON = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+	@Mock
+	private CrawlWatermarkRepository crawlWatermarkRepository;
+
+	@Mock
+	private NewsRepository newsRepository;
+
+	@InjectMocks
+	private CrawlWatermarkService crawlWatermarkService;
+
+	@Test
+	@DisplayName("저장하지 못한 기사가 있으면 그 기사보다 늦지 않은 기사까지만 워터마크를 옮김")
+	void advance_StopsAtOldestUnfinishedArticle() {
+		// Given
+		News older = news("https://news.example.com/1", NOON.minusHours(2));
+		News failed = news("https://news.example.com/2", NOON.minusHours(1));
+		News newest = news("https://news.example.com/3", NOON);
+		when(crawlWatermarkRepository.findById(NewsCategory.POLITICS)).thenReturn(Optional.empty());
+
+		// When
+		crawlWatermarkService.advance(NewsCategory.POLITICS, List.of(newest, failed, older), Set.of(failed.getUrlHash()));
+
+		// Then
+		ArgumentCaptor<CrawlWatermark> saved = ArgumentCaptor.forClass(CrawlWatermark.class);
+		verify(crawlWatermarkRepository).save(saved.capture());
+		assertThat(saved.getValue().getNewestUrlHash()).isEqualTo(older.getUrlHash());
+		assertThat(saved.getValue().isSeen(failed)).isFalse();
+	}
+
+	@Test
+	@DisplayName("가장 오래된 기사를 저장하지 못했으면 워터마크를 옮기지 않음")
+	void advance_KeepsWatermarkWhenOldestArticleIsUnfinished() {
+		// Given
+		News failed = news("https://news.example.com/1", NOON.minusHours(1));
+		News newest = news("https://news.example.com/2", NOON);
+
+		// When
+		crawlWatermarkService.advance(NewsCategory.POLITICS, List.of(newest, failed), Set.of(failed.getUrlHash()));
+
+		// Then
+		verify(crawlWatermarkRepository, never()).save(any());
+	}
+
+	private static News news(String url, LocalDateTime publishedAt) {
+		return News.builder().originalUrl(url).category(NewsCategory.POLITICS).publishedAt(publishedAt).build();
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.news_service.news.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.domain.NewsCategory;
+
+class InOrderPersistHandlerTest {
+
+	private final List<List<String>> batches = new ArrayList<>();
+
+	private final InOrderPersistHandler handler = new InOrderPersistHandler(2,
+		batch -> batches.add(batch.stream().map(article -> article.news().getOriginalUrl()).toList()));
+
+	@Test
+	@DisplayName("뒤 기사가 먼저 도착해도 앞 기사가 도착한 뒤 조회 순서대로 저장")
+	void handle_PersistsInFetchOrder() {
+		// Given
+		News first = news("https://news.example.com/1");
+		News second = news("https://news.example.com/2");
+		handler.register(first);
+		handler.register(second);
+
+		// When
+		handler.handle(article(second), item -> {
+		});
+		handler.handle(article(first), item -> {
+		});
+
+		// Then
+		assertThat(batches).containsExactly(List.of("https://news.example.com/1", "https://news.example.com/2"));
+	}
+
+	@Test
+	@DisplayName("탈락한 기사는 기다리지 않고, 입력이 끝나면 남은 기사를 순서대로 저장")
+	void finish_SkipsDroppedArticles() {
+		// Given
+		News first = news("https://news.example.com/1");
+		News dropped = news("https://news.example.com/2");
+		News third = news("https://news.example.com/3");
+		handler.register(first);
+		handler.register(dropped);
+		handler.register(third);
+
+		// When
+		handler.handle(article(third), item -> {
+		});
+		handler.skip(dropped);
+		handler.handle(article(first), item -> {
+		});
+		handler.finish(item -> {
+		});
+
+		// Then
+		assertThat(batches).containsExactly(List.of("https://news.example.com/1", "https://news.example.com/3"));
+	}
+
+	private static News news(String url) {
+		return News.builder().originalUrl(url).category(NewsCategory.POLITICS).build();
+	}
+
+	private static CrawledArticle article(News news) {
+		return new CrawledArticle(news, null, "요약");
+	}
+}
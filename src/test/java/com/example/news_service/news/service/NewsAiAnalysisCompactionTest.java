@@ -0,0 +1,30 @@
+package com.example.news_service.news.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.news_service.news.client.PromptTemplate;
+import com.example.news_service.news.entity.PromptReference;
+
+class NewsAiAnalysisCompactionTest {
+
+	private static final String CONTENT = "정부는 18일 내년도 예산안을 국회에 제출했다.";
+
+	@Test
+	@DisplayName("이전 형식 프롬프트에서 기본 템플릿과 사용자 지시문, 본문을 나눔")
+	void parseLegacyRequest_SplitsTemplateAndContent() {
+		// Given
+		String defaultRequest = String.format(PromptTemplate.NEWS_SUMMARY.text(), CONTENT);
+		String customRequest = "세 줄로 요약해 줘" + "\\n\\n" + CONTENT;
+
+		// When
+		PromptReference defaultPrompt = NewsAiAnalysisCompaction.parseLegacyRequest(defaultRequest);
+		PromptReference customPrompt = NewsAiAnalysisCompaction.parseLegacyRequest(customRequest);
+
+		// Then
+		assertThat(defaultPrompt).isEqualTo(PromptReference.of(PromptTemplate.NEWS_SUMMARY.id(), null, CONTENT));
+		assertThat(customPrompt).isEqualTo(PromptReference.of(PromptTemplate.CUSTOM_ID, "세 줄로 요약해 줘", CONTENT));
+	}
+}
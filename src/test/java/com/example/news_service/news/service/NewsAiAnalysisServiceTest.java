@@ -0,0 +1,194 @@
+package com.example.news_service.news.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.news_service.common.resilience.CallResult;
+import com.example.news_service.common.resilience.FailureKind;
+import com.example.news_service.news.client.GptRequestScheduler;
+import com.example.news_service.news.client.PromptTemplate;
+import com.example.news_service.news.domain.News;
+import com.example.news_service.news.entity.NewsAiAnalysis;
+import com.example.news_service.news.entity.PromptReference;
+import com.example.news_service.news.repository.NewsAiAnalysisRepository;
+import com.example.news_service.news.repository.NewsRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NewsAiAnalysisServiceTest {
+
+	private static final String CONTENT = "정부는 18일 내년도 예산안을 국회에 제출했다.";
+
+	@Mock
+	private NewsAiAnalysisRepository newsAiAnalysisRepository;
+
+	@Mock
+	private NewsRepository newsRepository;
+
+	@Mock
+	private GptRequestScheduler gptRequestScheduler;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private NewsAiAnalysisService newsAiAnalysisService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		newsAiAnalysisService = new NewsAiAnalysisService(newsAiAnalysisRepository, newsRepository, gptRequestScheduler,
+			meterRegistry, Duration.ofMinutes(5));
+	}
+
+	@Test
+	@DisplayName("스트리밍 분석은 받은 조각을 넘기고 스트림이 끝나면 전체 응답을 저장")
+	@SuppressWarnings("unchecked")
+	void streamNewAnalysis_SavesWhenStreamCompletes() {
+		// Given
+		when(newsRepository.findById(1L)).thenReturn(Optional.of(News.builder().content(CONTENT).build()));
+		when(gptRequestScheduler.stream(eq(PromptTemplate.NEWS_SUMMARY), eq(CONTENT),
+			eq(GptRequestScheduler.Priority.INTERACTIVE), any()))
+			.thenAnswer(invocation -> {
+				Consumer<String> onToken = invocation.getArgument(3, Consumer.class);
+				onToken.accept("예산안");
+				onToken.accept(" 제출");
+				return CompletableFuture.completedFuture(CallResult.success("예산안 제출"));
+			});
+		when(newsAiAnalysisRepository.save(any(NewsAiAnalysis.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		List<String> tokens = new ArrayList<>();
+
+		// When
+		CallResult<NewsAiAnalysis> result = newsAiAnalysisService.streamNewAnalysis(1L, null, tokens::add).join();
+
+		// Then
+		assertThat(tokens).containsExactly("예산안", " 제출");
+		assertThat(result.getOrThrow().getAiResponse()).isEqualTo("예산안 제출");
+		assertThat(result.getOrThrow().getPrompt())
+			.isEqualTo(PromptReference.of(PromptTemplate.NEWS_SUMMARY.id(), null, CONTENT));
+	}
+
+	@Test
+	@DisplayName("스트리밍이 실패하면 분석을 저장하지 않고 실패 결과로 완료")
+	void streamNewAnalysis_DoesNotSaveOnFailure() {
+		// Given
+		when(newsRepository.findById(1L)).thenReturn(Optional.of(News.builder().content(CONTENT).build()));
+		when(gptRequestScheduler.stream(any(), any(), any(), any()))
+			.thenReturn(CompletableFuture.completedFuture(CallResult.failure(FailureKind.CIRCUIT_OPEN, "open")));
+
+		// When
+		CallResult<NewsAiAnalysis> result = newsAiAnalysisService.streamNewAnalysis(1L, null, token -> {
+		}).join();
+
+		// Then
+		assertThat(result).isInstanceOfSatisfying(CallResult.Failure.class,
+			failure -> assertThat(failure.kind()).isEqualTo(FailureKind.CIRCUIT_OPEN));
+		verify(newsAiAnalysisRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("같은 뉴스의 기본 분석을 동시에 요청하면 GPT 요청과 저장은 한 번만 일어남")
+	void createDefaultAnalysis_CoalescesConcurrentRequests() throws Exception {
+		// Given: 첫 요청의 GPT 응답이 끝나지 않도록 막아 둠
+		News news = News.builder().content(CONTENT).build();
+		when(newsRepository.findById(1L)).thenReturn(Optional.of(news));
+		CompletableFuture<CallResult<String>> gptResponse = new CompletableFuture<>();
+		when(gptRequestScheduler.summarize(PromptTemplate.NEWS_SUMMARY, CONTENT, GptRequestScheduler.Priority.INTERACTIVE))
+			.thenReturn(gptResponse);
+		when(newsAiAnalysisRepository.save(any(NewsAiAnalysis.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// When
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		try {
+			Future<NewsAiAnalysis> first = callers.submit(() -> newsAiAnalysisService.createDefaultAnalysis(1L));
+			verify(gptRequestScheduler, timeout(1000)).summarize(any(), any(), any());
+			Future<NewsAiAnalysis> second = callers.submit(() -> newsAiAnalysisService.createDefaultAnalysis(1L));
+			awaitCounter("in_flight");
+			gptResponse.complete(CallResult.success("예산안 제출"));
+
+			// Then
+			assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+			verify(gptRequestScheduler, times(1)).summarize(any(), any(), any());
+			verify(newsAiAnalysisRepository, times(1)).save(any(NewsAiAnalysis.class));
+		} finally {
+			callers.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("같은 프롬프트로 최근에 만든 분석이 있으면 GPT 를 호출하지 않고 그 분석을 반환")
+	void createDefaultAnalysis_ReturnsFreshAnalysis() {
+		// Given
+		News news = News.builder().content(CONTENT).build();
+		when(newsRepository.findById(1L)).thenReturn(Optional.of(news));
+		PromptReference prompt = PromptReference.of(PromptTemplate.NEWS_SUMMARY.id(), null, CONTENT);
+		NewsAiAnalysis recent = analysis(news, prompt);
+		when(newsAiAnalysisRepository.findRecentByPrompt(eq(news), eq(prompt.templateId()), eq(prompt.contentHash()),
+			any(LocalDateTime.class)))
+			.thenReturn(List.of(recent));
+
+		// When
+		NewsAiAnalysis result = newsAiAnalysisService.createDefaultAnalysis(1L);
+
+		// Then
+		assertThat(result).isSameAs(recent);
+		verifyNoInteractions(gptRequestScheduler);
+		verify(newsAiAnalysisRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("요청을 맡은 사이 직전 요청이 분석을 저장했으면 GPT 를 호출하지 않고 그 분석을 반환")
+	void createDefaultAnalysis_RechecksFreshAnalysisAfterClaimingRequest() {
+		// Given: 처음 확인할 때는 없었고, 요청을 맡은 뒤 다시 확인할 때는 있음
+		News news = News.builder().content(CONTENT).build();
+		when(newsRepository.findById(1L)).thenReturn(Optional.of(news));
+		PromptReference prompt = PromptReference.of(PromptTemplate.NEWS_SUMMARY.id(), null, CONTENT);
+		NewsAiAnalysis justSaved = analysis(news, prompt);
+		when(newsAiAnalysisRepository.findRecentByPrompt(eq(news), eq(prompt.templateId()), eq(prompt.contentHash()),
+			any(LocalDateTime.class)))
+			.thenReturn(List.of())
+			.thenReturn(List.of(justSaved));
+
+		// When
+		NewsAiAnalysis result = newsAiAnalysisService.createDefaultAnalysis(1L);
+
+		// Then
+		assertThat(result).isSameAs(justSaved);
+		verifyNoInteractions(gptRequestScheduler);
+		verify(newsAiAnalysisRepository, never()).save(any());
+	}
+
+	private static NewsAiAnalysis analysis(News news, PromptReference prompt) {
+		NewsAiAnalysis analysis = NewsAiAnalysis.builder().news(news).prompt(prompt).aiResponse("요약").build();
+		ReflectionTestUtils.setField(analysis, "createdAt", LocalDateTime.now().minusMinutes(1));
+		return analysis;
+	}
+
+	private void awaitCounter(String reason) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.counter("news.ai_analysis.reused", "reason", reason).count() < 1) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+}